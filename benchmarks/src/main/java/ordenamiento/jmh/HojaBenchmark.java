@@ -0,0 +1,107 @@
+package ordenamiento.jmh;
+
+import ordenamiento.OrdenamientoHoja;
+import ordenamiento.OrdenamientoHoja.KernelMezcla;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// Cada etapa de la hoja por separado, en ns por elemento: Arrays.sort contra OrdenamientoHoja y
+// solo su red de grupos de 8, y un merge de dos mitades con cada kernel. Todas las invocaciones
+// procesan ELEMENTOS elementos, repartidos en hojas de tamano.
+//
+// Para ciclos por elemento: java -jar benchmarks/target/benchmarks.jar HojaBenchmark -prof perfnorm
+// (columna cycles); para ver el kernel escalar en lugar del vectorial se agrega
+// -jvmArgsAppend -Dordenamiento.sinVectores=true.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g", "--add-modules", "jdk.incubator.vector"})
+@State(Scope.Thread)
+public class HojaBenchmark {
+
+    static final int ELEMENTOS = 1 << 20;
+
+    // Tamaños de hoja: dentro de L1/L2, en L2/L3 y fuera de caché
+    @Param({"4096", "65536", "1048576"})
+    public int tamano;
+
+    int[] original, datos, aux, mitades;
+
+    @Setup(Level.Trial)
+    public void generar() {
+        SplittableRandom aleatorio = new SplittableRandom(42L);
+        original = new int[ELEMENTOS];
+        for (int i = 0; i < ELEMENTOS; i++) original[i] = aleatorio.nextInt();
+        datos = new int[ELEMENTOS];
+        aux = new int[ELEMENTOS];
+        // Cada hoja con sus dos mitades ordenadas, como las recibe un merge
+        mitades = original.clone();
+        for (int desde = 0; desde < ELEMENTOS; desde += tamano) {
+            Arrays.sort(mitades, desde, desde + tamano / 2);
+            Arrays.sort(mitades, desde + tamano / 2, desde + tamano);
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void copiar() {
+        System.arraycopy(original, 0, datos, 0, ELEMENTOS);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ELEMENTOS)
+    public int[] hojaArraysSort() {
+        for (int desde = 0; desde < ELEMENTOS; desde += tamano) {
+            Arrays.sort(datos, desde, desde + tamano);
+        }
+        return datos;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ELEMENTOS)
+    public int[] hojaBloquesCache() {
+        for (int desde = 0; desde < ELEMENTOS; desde += tamano) {
+            OrdenamientoHoja.ordenar(datos, desde, desde + tamano, aux, desde);
+        }
+        return datos;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ELEMENTOS)
+    public int[] redGrupos() {
+        OrdenamientoHoja.ordenarGrupos(datos, 0, ELEMENTOS, aux, 0);
+        return aux;
+    }
+
+    // Solo el merge varía con el kernel; las etapas de hoja no lo toman para no repetir corridas
+    @State(Scope.Thread)
+    public static class Kernel {
+        @Param({"CON_RAMAS", "SIN_SALTOS", "VECTORIAL"})
+        public KernelMezcla kernel;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ELEMENTOS)
+    public int[] merge(Kernel kernel) {
+        for (int desde = 0; desde < ELEMENTOS; desde += tamano) {
+            int medio = desde + tamano / 2;
+            OrdenamientoHoja.mezclar(kernel.kernel, mitades, desde, medio, medio, desde + tamano, aux, desde);
+        }
+        return aux;
+    }
+}
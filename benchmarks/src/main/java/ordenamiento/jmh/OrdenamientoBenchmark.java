@@ -0,0 +1,132 @@
+package ordenamiento.jmh;
+
+import ordenamiento.GeneradorDatos;
+import ordenamiento.MergeSortParaleloUI.MergeSortParalelo;
+import ordenamiento.RadixSortParalelo;
+import ordenamiento.SampleSortParalelo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+// Compara MergeSortParalelo, SampleSortParalelo y RadixSortParalelo con Arrays.sort y Arrays.parallelSort
+// sobre una malla de tamaños, umbrales y distribuciones de entrada.
+//
+// mvn -B package && java -jar benchmarks/target/benchmarks.jar OrdenamientoBenchmark
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class OrdenamientoBenchmark {
+
+    // Entrada compartida por todos los algoritmos; se regenera solo al cambiar de parámetros
+    @State(Scope.Benchmark)
+    public static class Entrada {
+        @Param({"1000000", "10000000", "50000000"})
+        public int tamano;
+
+        @Param({"UNIFORME", "ORDENADO", "INVERSO", "CASI_ORDENADO", "POCOS_UNICOS", "ZIPF", "ORGANO"})
+        public GeneradorDatos.Distribucion distribucion;
+
+        int[] datosOriginales;
+        int[] arreglo;
+
+        @Setup(Level.Trial)
+        public void generar() {
+            // Semilla fija: todas las corridas comparan exactamente la misma entrada
+            datosOriginales = GeneradorDatos.generar(tamano, distribucion, 42L);
+            arreglo = new int[tamano];
+        }
+
+        // La copia se hace antes de cada invocación, fuera de la región medida
+        @Setup(Level.Invocation)
+        public void copiar() {
+            System.arraycopy(datosOriginales, 0, arreglo, 0, tamano);
+        }
+    }
+
+    // Umbral y pool de los algoritmos fork-join, para no multiplicar las corridas de los sorts del JDK
+    @State(Scope.Benchmark)
+    public static class Paralelo {
+        @Param({"8192", "65536", "1000000"})
+        public int umbral;
+
+        ForkJoinPool pool;
+
+        @Setup(Level.Trial)
+        public void crearPool() {
+            pool = new ForkJoinPool();
+        }
+
+        @TearDown(Level.Trial)
+        public void cerrarPool() {
+            pool.shutdown();
+        }
+    }
+
+    // Configuración exclusiva de MergeSortParalelo, para no multiplicar las corridas de los demás
+    @State(Scope.Benchmark)
+    public static class Configuracion {
+        @Param({"BUFFER_ALTERNADO", "TEMPORAL_POR_MERGE"})
+        public MergeSortParalelo.EstrategiaMerge estrategia;
+
+        @Param({"16384", "0"})
+        public int umbralMerge;
+    }
+
+    @Benchmark
+    public int[] mergeSortParalelo(Entrada entrada, Paralelo paralelo, Configuracion config) {
+        int[] arreglo = entrada.arreglo;
+        paralelo.pool.invoke(new MergeSortParalelo(arreglo, 0, arreglo.length,
+                paralelo.umbral, config.estrategia, config.umbralMerge));
+        return arreglo;
+    }
+
+    @Benchmark
+    public int[] mergeSortAdaptativo(Entrada entrada, Paralelo paralelo, Configuracion config) {
+        int[] arreglo = entrada.arreglo;
+        paralelo.pool.invoke(new MergeSortParalelo(arreglo, 0, arreglo.length,
+                paralelo.umbral, config.estrategia, config.umbralMerge).conModoAdaptativo(true));
+        return arreglo;
+    }
+
+    @Benchmark
+    public int[] sampleSortParalelo(Entrada entrada, Paralelo paralelo) {
+        int[] arreglo = entrada.arreglo;
+        paralelo.pool.invoke(new SampleSortParalelo(arreglo, 0, arreglo.length, paralelo.umbral));
+        return arreglo;
+    }
+
+    @Benchmark
+    public int[] radixSortParalelo(Entrada entrada, Paralelo paralelo) {
+        int[] arreglo = entrada.arreglo;
+        paralelo.pool.invoke(new RadixSortParalelo(arreglo, 0, arreglo.length, paralelo.umbral));
+        return arreglo;
+    }
+
+    @Benchmark
+    public int[] arraysSort(Entrada entrada) {
+        Arrays.sort(entrada.arreglo);
+        return entrada.arreglo;
+    }
+
+    @Benchmark
+    public int[] arraysParallelSort(Entrada entrada) {
+        Arrays.parallelSort(entrada.arreglo);
+        return entrada.arreglo;
+    }
+}
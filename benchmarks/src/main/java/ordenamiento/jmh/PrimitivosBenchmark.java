@@ -0,0 +1,108 @@
+package ordenamiento.jmh;
+
+import ordenamiento.MergeSortParaleloDouble;
+import ordenamiento.MergeSortParaleloLong;
+import ordenamiento.OrdenamientoPorClave;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+// Versiones long[], double[] y clave/carga contra Arrays.parallelSort del mismo tipo.
+//
+// mvn -B package && java -jar benchmarks/target/benchmarks.jar PrimitivosBenchmark
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class PrimitivosBenchmark {
+
+    @Param({"1000000", "10000000"})
+    public int tamano;
+
+    @Param({"65536", "0"})
+    public int umbral;
+
+    long[] largosOriginales, largos;
+    double[] doublesOriginales, doubles;
+    ForkJoinPool pool;
+
+    @Setup(Level.Trial)
+    public void generar() {
+        // Marcas de tiempo con repetidos y doubles con algunos NaN y ceros con signo
+        SplittableRandom aleatorio = new SplittableRandom(42L);
+        largosOriginales = new long[tamano];
+        doublesOriginales = new double[tamano];
+        for (int i = 0; i < tamano; i++) {
+            largosOriginales[i] = 1_700_000_000_000L + aleatorio.nextLong(86_400_000L);
+            int especial = aleatorio.nextInt(1000);
+            doublesOriginales[i] = especial == 0 ? Double.NaN : especial == 1 ? -0.0 : aleatorio.nextDouble() - 0.5;
+        }
+        largos = new long[tamano];
+        doubles = new double[tamano];
+        pool = new ForkJoinPool();
+    }
+
+    @Setup(Level.Invocation)
+    public void copiar() {
+        System.arraycopy(largosOriginales, 0, largos, 0, tamano);
+        System.arraycopy(doublesOriginales, 0, doubles, 0, tamano);
+    }
+
+    @TearDown(Level.Trial)
+    public void cerrarPool() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public long[] mergeSortLong() {
+        pool.invoke(new MergeSortParaleloLong(largos, 0, tamano, umbral));
+        return largos;
+    }
+
+    @Benchmark
+    public long[] arraysParallelSortLong() {
+        Arrays.parallelSort(largos);
+        return largos;
+    }
+
+    @Benchmark
+    public double[] mergeSortDouble() {
+        pool.invoke(new MergeSortParaleloDouble(doubles, 0, tamano, umbral));
+        return doubles;
+    }
+
+    @Benchmark
+    public double[] arraysParallelSortDouble() {
+        Arrays.parallelSort(doubles);
+        return doubles;
+    }
+
+    // Orden estable de las marcas de tiempo arrastrando un valor double por registro
+    @Benchmark
+    public double[] ordenarPorClave() {
+        OrdenamientoPorClave.ordenar(largos, doubles, umbral, pool);
+        return doubles;
+    }
+
+    @Benchmark
+    public int[] permutacion() {
+        return OrdenamientoPorClave.permutacion(largosOriginales, umbral, pool);
+    }
+}
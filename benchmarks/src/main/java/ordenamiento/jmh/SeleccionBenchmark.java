@@ -0,0 +1,90 @@
+package ordenamiento.jmh;
+
+import ordenamiento.MergeSortParaleloUI;
+import ordenamiento.SeleccionParalela;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+// Los k menores y la mediana por selección contra ordenar todo y cortar.
+//
+// mvn -B package && java -jar benchmarks/target/benchmarks.jar SeleccionBenchmark
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class SeleccionBenchmark {
+
+    @Param({"10000000"})
+    public int tamano;
+
+    @Param({"100", "10000", "1000000"})
+    public int k;
+
+    @Param({"0"})
+    public int umbral;
+
+    int[] datosOriginales, arreglo;
+    ForkJoinPool pool;
+
+    @Setup(Level.Trial)
+    public void generar() {
+        SplittableRandom aleatorio = new SplittableRandom(42L);
+        datosOriginales = new int[tamano];
+        for (int i = 0; i < tamano; i++) {
+            datosOriginales[i] = aleatorio.nextInt();
+        }
+        arreglo = new int[tamano];
+        pool = new ForkJoinPool();
+    }
+
+    @Setup(Level.Invocation)
+    public void copiar() {
+        System.arraycopy(datosOriginales, 0, arreglo, 0, tamano);
+    }
+
+    @TearDown(Level.Trial)
+    public void cerrarPool() {
+        pool.shutdown();
+    }
+
+    // La selección no modifica la entrada
+    @Benchmark
+    public int[] topK() {
+        return SeleccionParalela.menores(datosOriginales, k, umbral, pool);
+    }
+
+    @Benchmark
+    public int nEsimo() {
+        return SeleccionParalela.nEsimo(datosOriginales, k - 1, umbral, pool);
+    }
+
+    @Benchmark
+    public int[] ordenarYCortarParalelo() {
+        pool.invoke(new MergeSortParaleloUI.MergeSortParalelo(arreglo, 0, tamano, umbral));
+        return Arrays.copyOf(arreglo, k);
+    }
+
+    @Benchmark
+    public int[] ordenarYCortarSecuencial() {
+        Arrays.sort(arreglo);
+        return Arrays.copyOf(arreglo, k);
+    }
+}
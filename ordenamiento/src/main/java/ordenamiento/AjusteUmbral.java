@@ -0,0 +1,147 @@
+package ordenamiento;
+
+import ordenamiento.MergeSortParaleloUI.MergeSortParalelo.EstrategiaMerge;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Properties;
+import java.util.concurrent.ForkJoinPool;
+
+// Calibra el umbral secuencial de MergeSortParalelo para esta máquina.
+//
+// Los candidatos se expresan como tareas hoja por núcleo y se prueban sobre una muestra acotada,
+// así la calibración dura poco aunque el arreglo real sea enorme. El mejor umbral se guarda por
+// paralelismo, cubeta de tamaño (potencia de dos) y configuración de merge (estrategia y umbralMerge)
+// en ~/.forkjoinparalelo/umbrales.properties. Sin configuración se usa la de la UI y el servicio:
+// buffer alternado con merge paralelo.
+public final class AjusteUmbral {
+
+    // Ninguna hoja baja de este tamaño: por debajo domina el costo de crear tareas
+    public static final int UMBRAL_MINIMO = 4_096;
+
+    private static final int[] TAREAS_POR_NUCLEO = {1, 2, 4, 8, 16, 32, 64};
+    private static final int TAREAS_POR_NUCLEO_SIN_CALIBRAR = 8;
+    private static final int TAMAÑO_MAXIMO_MUESTRA = 1 << 22;
+    private static final int REPETICIONES = 3;
+
+    private static final Path ARCHIVO = Paths.get(System.getProperty("user.home"),
+                                                  ".forkjoinparalelo", "umbrales.properties");
+    private static final Properties cache = cargar();
+
+    private static final EstrategiaMerge ESTRATEGIA_POR_DEFECTO = EstrategiaMerge.BUFFER_ALTERNADO;
+    private static final int UMBRAL_MERGE_POR_DEFECTO = MergeSortParaleloUI.MergeSortParalelo.UMBRAL_MERGE_POR_DEFECTO;
+
+    private AjusteUmbral() {
+    }
+
+    public static int umbralPara(int tamaño, int paralelismo) {
+        return umbralPara(tamaño, paralelismo, ESTRATEGIA_POR_DEFECTO, UMBRAL_MERGE_POR_DEFECTO);
+    }
+
+    // Umbral calibrado para este tamaño, paralelismo y merge, o una estimación si aún no se calibró
+    public static int umbralPara(int tamaño, int paralelismo, EstrategiaMerge estrategia, int umbralMerge) {
+        String clave = clave(tamaño, paralelismo, estrategia, umbralMerge);
+        synchronized (cache) {
+            String valor = cache.getProperty(clave);
+            if (valor != null) {
+                try {
+                    return Math.max(UMBRAL_MINIMO, Integer.parseInt(valor.trim()));
+                } catch (NumberFormatException e) {
+                    cache.remove(clave);
+                }
+            }
+        }
+        return escalar(tamaño, paralelismo, TAREAS_POR_NUCLEO_SIN_CALIBRAR);
+    }
+
+    public static boolean estaCalibrado(int tamaño, int paralelismo) {
+        return estaCalibrado(tamaño, paralelismo, ESTRATEGIA_POR_DEFECTO, UMBRAL_MERGE_POR_DEFECTO);
+    }
+
+    public static boolean estaCalibrado(int tamaño, int paralelismo, EstrategiaMerge estrategia, int umbralMerge) {
+        synchronized (cache) {
+            return cache.containsKey(clave(tamaño, paralelismo, estrategia, umbralMerge));
+        }
+    }
+
+    public static int calibrar(ForkJoinPool pool, int tamaño) {
+        return calibrar(pool, tamaño, ESTRATEGIA_POR_DEFECTO, UMBRAL_MERGE_POR_DEFECTO);
+    }
+
+    // Mide cada candidato en el pool dado, con el merge que se va a usar de verdad, y guarda el más
+    // rápido para la cubeta de este tamaño
+    public static int calibrar(ForkJoinPool pool, int tamaño, EstrategiaMerge estrategia, int umbralMerge) {
+        int paralelismo = pool.getParallelism();
+        int tamañoMuestra = Math.min(tamaño, TAMAÑO_MAXIMO_MUESTRA);
+        int[] muestra = MergeSortParaleloUI.generarArregloAleatorio(tamañoMuestra);
+        int[] arreglo = new int[tamañoMuestra];
+
+        int mejorFactor = TAREAS_POR_NUCLEO_SIN_CALIBRAR;
+        long mejorTiempo = Long.MAX_VALUE;
+        for (int factor : TAREAS_POR_NUCLEO) {
+            int umbralMuestra = escalar(tamañoMuestra, paralelismo, factor);
+            long tiempo = Long.MAX_VALUE;
+            // La primera repetición sirve de calentamiento para el candidato
+            for (int r = 0; r <= REPETICIONES; r++) {
+                System.arraycopy(muestra, 0, arreglo, 0, tamañoMuestra);
+                long inicio = System.nanoTime();
+                pool.invoke(new MergeSortParaleloUI.MergeSortParalelo(arreglo, 0, tamañoMuestra, umbralMuestra,
+                                                                      estrategia, umbralMerge));
+                long transcurrido = System.nanoTime() - inicio;
+                if (r > 0) tiempo = Math.min(tiempo, transcurrido);
+            }
+            if (tiempo < mejorTiempo) {
+                mejorTiempo = tiempo;
+                mejorFactor = factor;
+            }
+        }
+
+        int umbral = escalar(1 << cubeta(tamaño), paralelismo, mejorFactor);
+        synchronized (cache) {
+            cache.setProperty(clave(tamaño, paralelismo, estrategia, umbralMerge), Integer.toString(umbral));
+            guardar();
+        }
+        return umbral;
+    }
+
+    private static int escalar(int tamaño, int paralelismo, int tareasPorNucleo) {
+        long hojas = (long) paralelismo * tareasPorNucleo;
+        return (int) Math.max(UMBRAL_MINIMO, (tamaño + hojas - 1) / hojas);
+    }
+
+    private static int cubeta(int tamaño) {
+        return 31 - Integer.numberOfLeadingZeros(Math.max(1, tamaño));
+    }
+
+    private static String clave(int tamaño, int paralelismo, EstrategiaMerge estrategia, int umbralMerge) {
+        return "p" + paralelismo + ".b" + cubeta(tamaño) + "." + estrategia + ".m" + umbralMerge;
+    }
+
+    // La caché en disco es solo una optimización: si no se puede leer o escribir se sigue en memoria
+    private static Properties cargar() {
+        Properties propiedades = new Properties();
+        if (Files.isRegularFile(ARCHIVO)) {
+            try (Reader lector = Files.newBufferedReader(ARCHIVO)) {
+                propiedades.load(lector);
+            } catch (IOException | IllegalArgumentException e) {
+                propiedades.clear();
+            }
+        }
+        return propiedades;
+    }
+
+    private static void guardar() {
+        try {
+            Files.createDirectories(ARCHIVO.getParent());
+            try (Writer escritor = Files.newBufferedWriter(ARCHIVO)) {
+                cache.store(escritor, "Umbrales calibrados de MergeSortParalelo (p<paralelismo>.b<log2 del tamaño>.<estrategia>.m<umbralMerge>)");
+            }
+        } catch (IOException e) {
+            System.err.println("⚠ No se pudo guardar la calibración en " + ARCHIVO + ": " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,316 @@
+package ordenamiento;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+// Ejecuta la comparativa de MergeSortParaleloUI sin interfaz gráfica, con calentamiento y
+// repeticiones, y emite los resultados en CSV o JSON para CI y planificación de capacidad.
+//
+// Uso: java BenchmarkOrdenamiento [--tamano N] [--umbral N|auto] [--paralelismo N]
+//          [--distribucion uniforme|ordenado|inverso|casi_ordenado|pocos_unicos|zipf|organo]
+//          [--semilla N] [--calentamiento N] [--iteraciones N]
+//          [--estrategia BUFFER_ALTERNADO|TEMPORAL_POR_MERGE] [--umbral-merge N]
+//          [--algoritmos paralelo,adaptativo,bloques,sample,radix,secuencial] [--formato csv|json] [--k N]
+//
+// --umbral auto calibra con AjusteUmbral antes de medir si la máquina aún no está calibrada.
+// Con --k N se miden los N menores: "topk" (SeleccionParalela) contra cada algoritmo de orden
+// seguido de un corte a los primeros N; por defecto topk, paralelo y secuencial.
+// "bloques" usa OrdenamientoHoja en las hojas; con java --add-modules jdk.incubator.vector sus merges
+// son vectoriales y sin el módulo, escalares sin saltos.
+public class BenchmarkOrdenamiento {
+
+    // Un algoritmo medido: ordena in situ el arreglo recibido
+    interface Algoritmo {
+        void ordenar(int[] arreglo);
+    }
+
+    // Una selección medida: devuelve los k menores en orden sin necesidad de ordenar el arreglo
+    interface Seleccion {
+        int[] seleccionar(int[] arreglo);
+    }
+
+    // Tiempos de un algoritmo en nanosegundos, ya ordenados de menor a mayor
+    static class Resultado {
+        final String nombre;
+        final long[] tiempos;
+
+        Resultado(String nombre, long[] tiempos) {
+            this.nombre = nombre;
+            this.tiempos = tiempos.clone();
+            Arrays.sort(this.tiempos);
+        }
+
+        long min()     { return tiempos[0]; }
+        long max()     { return tiempos[tiempos.length - 1]; }
+        long mediana() { return percentil(50); }
+        long p95()     { return percentil(95); }
+
+        // Percentil por el método del rango más cercano
+        long percentil(int p) {
+            int rango = (int) Math.ceil(p / 100.0 * tiempos.length);
+            return tiempos[Math.max(0, rango - 1)];
+        }
+    }
+
+    private int tamaño = 10_000_000;
+    private int umbral = 1_000_000;
+    private int paralelismo = Runtime.getRuntime().availableProcessors();
+    private GeneradorDatos.Distribucion distribucion = GeneradorDatos.Distribucion.UNIFORME;
+    private long semilla = 42;
+    private int calentamiento = 3;
+    private int iteraciones = 10;
+    private MergeSortParaleloUI.MergeSortParalelo.EstrategiaMerge estrategia =
+            MergeSortParaleloUI.MergeSortParalelo.EstrategiaMerge.BUFFER_ALTERNADO;
+    private int umbralMerge = MergeSortParaleloUI.MergeSortParalelo.UMBRAL_MERGE_POR_DEFECTO;
+    private List<String> algoritmos = null; // null: los de por defecto del modo
+    private String formato = "csv";
+    private int k = 0;                      // 0: ordenar todo; > 0: solo los k menores
+
+    public static void main(String[] args) {
+        BenchmarkOrdenamiento benchmark = new BenchmarkOrdenamiento();
+        try {
+            benchmark.leerArgumentos(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println("❌ " + e.getMessage());
+            System.err.println("Uso: java BenchmarkOrdenamiento [--tamano N] [--umbral N|auto] [--paralelismo N] "
+                    + "[--distribucion uniforme|ordenado|inverso|casi_ordenado|pocos_unicos|zipf|organo] "
+                    + "[--semilla N] [--calentamiento N] [--iteraciones N] "
+                    + "[--estrategia BUFFER_ALTERNADO|TEMPORAL_POR_MERGE] [--umbral-merge N] "
+                    + "[--algoritmos paralelo,adaptativo,bloques,sample,radix,secuencial,topk] [--formato csv|json] "
+                    + "[--k N]");
+            System.exit(2);
+        }
+        benchmark.ejecutar();
+    }
+
+    void leerArgumentos(String[] args) {
+        for (int i = 0; i < args.length; i++) {
+            String clave = args[i];
+            if (!clave.startsWith("--") || i + 1 >= args.length) {
+                throw new IllegalArgumentException("Argumento inválido: " + clave);
+            }
+            String valor = args[++i];
+            switch (clave) {
+                case "--tamano":
+                case "--tamaño":        tamaño = entero(clave, valor, 1); break;
+                case "--umbral":
+                    umbral = valor.equalsIgnoreCase("auto")
+                            ? MergeSortParaleloUI.MergeSortParalelo.UMBRAL_AUTOMATICO
+                            : entero(clave, valor, 1);
+                    break;
+                case "--paralelismo":   paralelismo = entero(clave, valor, 1); break;
+                case "--semilla":       semilla = largo(clave, valor); break;
+                case "--distribucion":
+                    try {
+                        distribucion = GeneradorDatos.Distribucion.valueOf(valor.toUpperCase(Locale.ROOT));
+                    } catch (IllegalArgumentException e) {
+                        throw new IllegalArgumentException("Distribución no soportada: " + valor);
+                    }
+                    break;
+                case "--calentamiento": calentamiento = entero(clave, valor, 0); break;
+                case "--iteraciones":   iteraciones = entero(clave, valor, 1); break;
+                case "--umbral-merge":  umbralMerge = entero(clave, valor, 0); break;
+                case "--algoritmos":    algoritmos = Arrays.asList(valor.toLowerCase(Locale.ROOT).split(",")); break;
+                case "--formato":       formato = valor.toLowerCase(Locale.ROOT); break;
+                case "--k":             k = entero(clave, valor, 0); break;
+                case "--estrategia":
+                    try {
+                        estrategia = MergeSortParaleloUI.MergeSortParalelo.EstrategiaMerge.valueOf(valor.toUpperCase(Locale.ROOT));
+                    } catch (IllegalArgumentException e) {
+                        throw new IllegalArgumentException("Estrategia de merge desconocida: " + valor);
+                    }
+                    break;
+                default:
+                    throw new IllegalArgumentException("Argumento desconocido: " + clave);
+            }
+        }
+        if (!formato.equals("csv") && !formato.equals("json")) {
+            throw new IllegalArgumentException("Formato no soportado: " + formato);
+        }
+        if (k > tamaño) {
+            throw new IllegalArgumentException("--k no puede superar --tamano");
+        }
+        if (algoritmos == null) {
+            algoritmos = k > 0 ? Arrays.asList("topk", "paralelo", "secuencial")
+                               : Arrays.asList("paralelo", "sample", "radix", "secuencial");
+        }
+        Map<String, ?> disponibles = k > 0 ? crearSelecciones(null) : crearAlgoritmos(null);
+        for (String nombre : algoritmos) {
+            if (nombre.equals("topk") && k == 0) {
+                throw new IllegalArgumentException("topk requiere --k");
+            }
+            if (!disponibles.containsKey(nombre)) {
+                throw new IllegalArgumentException("Algoritmo desconocido: " + nombre);
+            }
+        }
+    }
+
+    private static int entero(String clave, String valor, int minimo) {
+        int n;
+        try {
+            n = Integer.parseInt(valor.replace("_", ""));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(clave + " espera un entero: " + valor);
+        }
+        if (n < minimo) {
+            throw new IllegalArgumentException(clave + " debe ser >= " + minimo);
+        }
+        return n;
+    }
+
+    private static long largo(String clave, String valor) {
+        try {
+            return Long.parseLong(valor.replace("_", ""));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(clave + " espera un entero: " + valor);
+        }
+    }
+
+    // Algoritmos disponibles por nombre; el pool puede ser null si solo se consultan los nombres
+    Map<String, Algoritmo> crearAlgoritmos(ForkJoinPool pool) {
+        Map<String, Algoritmo> mapa = new LinkedHashMap<>();
+        mapa.put("paralelo", a -> pool.invoke(new MergeSortParaleloUI.MergeSortParalelo(
+                a, 0, a.length, umbral, estrategia, umbralMerge)));
+        mapa.put("adaptativo", a -> pool.invoke(new MergeSortParaleloUI.MergeSortParalelo(
+                a, 0, a.length, umbral, estrategia, umbralMerge).conModoAdaptativo(true)));
+        mapa.put("bloques", a -> pool.invoke(new MergeSortParaleloUI.MergeSortParalelo(
+                a, 0, a.length, umbral, estrategia, umbralMerge)
+                .conEstrategiaHoja(MergeSortParaleloUI.MergeSortParalelo.EstrategiaHoja.BLOQUES_CACHE)));
+        mapa.put("sample", a -> pool.invoke(new SampleSortParalelo(a, 0, a.length, umbral)));
+        mapa.put("radix", a -> pool.invoke(new RadixSortParalelo(a, 0, a.length, umbral)));
+        mapa.put("secuencial", Arrays::sort);
+        return mapa;
+    }
+
+    // Con --k: la selección paralela y cada algoritmo de orden seguido de un corte a los k menores
+    Map<String, Seleccion> crearSelecciones(ForkJoinPool pool) {
+        Map<String, Seleccion> mapa = new LinkedHashMap<>();
+        mapa.put("topk", a -> SeleccionParalela.menores(a, k, umbral, pool));
+        for (Map.Entry<String, Algoritmo> entrada : crearAlgoritmos(pool).entrySet()) {
+            Algoritmo algoritmo = entrada.getValue();
+            mapa.put(entrada.getKey(), a -> {
+                algoritmo.ordenar(a);
+                return Arrays.copyOf(a, k);
+            });
+        }
+        return mapa;
+    }
+
+    void ejecutar() {
+        ForkJoinPool pool = new ForkJoinPool(paralelismo);
+        int[] datosOriginales = GeneradorDatos.generar(tamaño, distribucion, semilla, pool);
+        int[] arreglo = new int[tamaño];
+        VerificacionOrdenamiento.Huella huellaEntrada = VerificacionOrdenamiento.huella(datosOriginales, pool);
+
+        List<Resultado> resultados = new ArrayList<>();
+        try {
+            if (umbral == MergeSortParaleloUI.MergeSortParalelo.UMBRAL_AUTOMATICO) {
+                if (!AjusteUmbral.estaCalibrado(tamaño, paralelismo, estrategia, umbralMerge)) {
+                    AjusteUmbral.calibrar(pool, tamaño, estrategia, umbralMerge);
+                }
+                umbral = AjusteUmbral.umbralPara(tamaño, paralelismo, estrategia, umbralMerge);
+            }
+            if (k > 0) {
+                // Referencia para verificar: los k primeros de una copia ordenada
+                int[] esperado = datosOriginales.clone();
+                Arrays.sort(esperado);
+                esperado = Arrays.copyOf(esperado, k);
+                Map<String, Seleccion> disponibles = crearSelecciones(pool);
+                for (String nombre : algoritmos) {
+                    Seleccion seleccion = disponibles.get(nombre);
+                    int[][] ultimo = new int[1][];
+                    long[] tiempos = medir(datosOriginales, arreglo, a -> ultimo[0] = seleccion.seleccionar(a));
+                    if (!Arrays.equals(ultimo[0], esperado)) {
+                        throw new IllegalStateException("El algoritmo " + nombre + " no devolvió los k menores");
+                    }
+                    resultados.add(new Resultado(nombre, tiempos));
+                }
+            } else {
+                Map<String, Algoritmo> disponibles = crearAlgoritmos(pool);
+                for (String nombre : algoritmos) {
+                    long[] tiempos = medir(datosOriginales, arreglo, disponibles.get(nombre));
+                    if (!VerificacionOrdenamiento.estaOrdenado(arreglo, pool)
+                            || !VerificacionOrdenamiento.huella(arreglo, pool).equals(huellaEntrada)) {
+                        throw new IllegalStateException("El algoritmo " + nombre + " no ordenó correctamente");
+                    }
+                    resultados.add(new Resultado(nombre, tiempos));
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        System.out.print(formato.equals("json") ? aJson(resultados) : aCsv(resultados));
+    }
+
+    private long[] medir(int[] datosOriginales, int[] arreglo, Algoritmo algoritmo) {
+        for (int i = 0; i < calentamiento; i++) {
+            System.arraycopy(datosOriginales, 0, arreglo, 0, tamaño);
+            algoritmo.ordenar(arreglo);
+        }
+        long[] tiempos = new long[iteraciones];
+        for (int i = 0; i < iteraciones; i++) {
+            // La copia de la entrada queda fuera de la región medida
+            System.arraycopy(datosOriginales, 0, arreglo, 0, tamaño);
+            long inicio = System.nanoTime();
+            algoritmo.ordenar(arreglo);
+            tiempos[i] = System.nanoTime() - inicio;
+        }
+        return tiempos;
+    }
+
+    // Aceleración respecto a la mediana de "secuencial"; NaN si no se midió
+    private static double speedup(Resultado r, List<Resultado> resultados) {
+        for (Resultado base : resultados) {
+            if (base.nombre.equals("secuencial")) {
+                return (double) base.mediana() / r.mediana();
+            }
+        }
+        return Double.NaN;
+    }
+
+    private String nombreDistribucion() {
+        return distribucion.name().toLowerCase(Locale.ROOT);
+    }
+
+    String aCsv(List<Resultado> resultados) {
+        StringBuilder sb = new StringBuilder();
+        // La columna k solo aparece en modo selección, así el CSV de siempre no cambia
+        sb.append("algoritmo,tamano,umbral,paralelismo,distribucion,iteraciones,min_ns,mediana_ns,p95_ns,max_ns,speedup")
+          .append(k > 0 ? ",k\n" : "\n");
+        for (Resultado r : resultados) {
+            sb.append(String.format(Locale.ROOT, "%s,%d,%d,%d,%s,%d,%d,%d,%d,%d,%.4f",
+                    r.nombre, tamaño, umbral, paralelismo, nombreDistribucion(), iteraciones,
+                    r.min(), r.mediana(), r.p95(), r.max(), speedup(r, resultados)))
+              .append(k > 0 ? "," + k + "\n" : "\n");
+        }
+        return sb.toString();
+    }
+
+    String aJson(List<Resultado> resultados) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format(Locale.ROOT,
+                "{\"tamano\":%d,\"umbral\":%d,\"paralelismo\":%d,\"distribucion\":\"%s\",\"calentamiento\":%d,"
+                + "\"iteraciones\":%d,\"resultados\":[", tamaño, umbral, paralelismo, nombreDistribucion(),
+                calentamiento, iteraciones));
+        if (k > 0) {
+            sb.insert(sb.length() - "\"resultados\":[".length(), "\"k\":" + k + ",");
+        }
+        for (int i = 0; i < resultados.size(); i++) {
+            Resultado r = resultados.get(i);
+            double speedup = speedup(r, resultados);
+            if (i > 0) sb.append(',');
+            sb.append(String.format(Locale.ROOT,
+                    "{\"algoritmo\":\"%s\",\"min_ns\":%d,\"mediana_ns\":%d,\"p95_ns\":%d,\"max_ns\":%d,\"speedup\":%s}",
+                    r.nombre, r.min(), r.mediana(), r.p95(), r.max(),
+                    Double.isNaN(speedup) ? "null" : String.format(Locale.ROOT, "%.4f", speedup)));
+        }
+        sb.append("]}\n");
+        return sb.toString();
+    }
+}
@@ -0,0 +1,103 @@
+package ordenamiento;
+
+import javafx.animation.Animation;
+import javafx.animation.KeyFrame;
+import javafx.animation.Timeline;
+import javafx.beans.property.StringProperty;
+import javafx.scene.control.TextArea;
+import javafx.util.Duration;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicReference;
+
+// Consola de la UI que no bloquea a quien escribe ni satura el hilo de JavaFX.
+//
+// Cualquier hilo deja sus mensajes en una cola sin bloqueos; un Timeline la vacía CUADROS_POR_SEGUNDO
+// veces por segundo y agrega todo lo acumulado con un único appendText. Los últimos MAX_MENSAJES
+// quedan en un buffer circular: cuando el TextArea pasa ese tope en un cuarto se reescribe solo con
+// ellos, así el texto no crece sin límite y el costo de recortarlo se reparte entre muchos cuadros.
+public class ConsolaAsincrona {
+
+    public static final int CUADROS_POR_SEGUNDO = 30;
+    public static final int MAX_MENSAJES = 2_000;
+
+    private final TextArea area;
+    private final StringProperty estado; // Último mensaje de estado, para la etiqueta de la UI
+    private final ConcurrentLinkedQueue<String> pendientes = new ConcurrentLinkedQueue<>();
+    private final AtomicReference<String> ultimoEstado = new AtomicReference<>();
+    private final Timeline vaciado;
+
+    // Buffer circular con los mensajes visibles; solo se toca desde el hilo de la UI
+    private final String[] mensajes = new String[MAX_MENSAJES];
+    private int primero, cantidad;
+    private int mensajesEnPantalla;
+
+    public ConsolaAsincrona(TextArea area, StringProperty estado) {
+        this.area = area;
+        this.estado = estado;
+        vaciado = new Timeline(new KeyFrame(Duration.millis(1000.0 / CUADROS_POR_SEGUNDO), e -> vaciar()));
+        vaciado.setCycleCount(Animation.INDEFINITE);
+        vaciado.play();
+    }
+
+    // Desde cualquier hilo
+    public void escribir(String mensaje) {
+        pendientes.offer(mensaje);
+    }
+
+    // Como escribir, y además pasa a ser el estado actual
+    public void escribirEstado(String mensaje) {
+        pendientes.offer(mensaje);
+        ultimoEstado.set(mensaje);
+    }
+
+    // Descarta lo visible y lo pendiente; desde el hilo de la UI
+    public void limpiar() {
+        pendientes.clear();
+        primero = 0;
+        cantidad = 0;
+        mensajesEnPantalla = 0;
+        area.clear();
+    }
+
+    public void detener() {
+        vaciado.stop();
+    }
+
+    private void vaciar() {
+        String estadoNuevo = ultimoEstado.getAndSet(null);
+        if (estadoNuevo != null) {
+            estado.set(estadoNuevo);
+        }
+        if (pendientes.isEmpty()) return;
+
+        StringBuilder lote = new StringBuilder();
+        String mensaje;
+        while ((mensaje = pendientes.poll()) != null) {
+            guardar(mensaje);
+            lote.append(mensaje).append('\n');
+            mensajesEnPantalla++;
+        }
+
+        if (mensajesEnPantalla > MAX_MENSAJES + MAX_MENSAJES / 4) {
+            StringBuilder texto = new StringBuilder();
+            for (int i = 0; i < cantidad; i++) {
+                texto.append(mensajes[(primero + i) % MAX_MENSAJES]).append('\n');
+            }
+            area.setText(texto.toString());
+            area.positionCaret(texto.length());
+            mensajesEnPantalla = cantidad;
+        } else {
+            area.appendText(lote.toString());
+        }
+    }
+
+    private void guardar(String mensaje) {
+        if (cantidad < MAX_MENSAJES) {
+            mensajes[(primero + cantidad++) % MAX_MENSAJES] = mensaje;
+        } else {
+            mensajes[primero] = mensaje;
+            primero = (primero + 1) % MAX_MENSAJES;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package ordenamiento;
+
+// Cálculos del estudio de escalabilidad: speedup, eficiencia y ajuste de la ley de Amdahl a partir
+// de los tiempos medidos con 1..P núcleos (tiempos[p - 1] es el tiempo con p núcleos).
+public final class EstudioEscalabilidad {
+
+    private EstudioEscalabilidad() {
+    }
+
+    public static double speedup(long[] tiempos, int nucleos) {
+        return (double) tiempos[0] / tiempos[nucleos - 1];
+    }
+
+    public static double eficiencia(long[] tiempos, int nucleos) {
+        return speedup(tiempos, nucleos) / nucleos;
+    }
+
+    // Fracción serial s de T(p) = T(1) * (s + (1 - s) / p) por mínimos cuadrados, acotada a [0, 1].
+    // Con x = 1/p e y = T(p)/T(1) el modelo queda y - x = s * (1 - x), una recta por el origen.
+    public static double fraccionSerial(long[] tiempos) {
+        double numerador = 0, denominador = 0;
+        for (int p = 2; p <= tiempos.length; p++) {
+            double x = 1.0 / p;
+            double y = (double) tiempos[p - 1] / tiempos[0];
+            numerador += (1 - x) * (y - x);
+            denominador += (1 - x) * (1 - x);
+        }
+        if (denominador == 0) return 0;
+        return Math.min(1.0, Math.max(0.0, numerador / denominador));
+    }
+
+    public static double speedupAmdahl(double fraccionSerial, int nucleos) {
+        return 1.0 / (fraccionSerial + (1 - fraccionSerial) / nucleos);
+    }
+}
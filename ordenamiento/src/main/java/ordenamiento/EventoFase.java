@@ -0,0 +1,37 @@
+package ordenamiento;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+// Evento JFR de una fase del ordenamiento. Si la grabación no lo habilita, crearlo y hacer commit no
+// cuesta prácticamente nada, así que queda siempre activo en producción.
+//
+// java -XX:StartFlightRecording:filename=ordenamiento.jfr ... y luego: jfr print --events ordenamiento.Fase
+@Name("ordenamiento.Fase")
+@Label("Fase de ordenamiento")
+@Category("Ordenamiento")
+@Description("Duración de una fase: generación, copia, hojas y merges del ordenamiento paralelo, etc.")
+public class EventoFase extends Event {
+
+    public static final String GENERACION = "Generación";
+    public static final String COPIA = "Copia";
+    public static final String ORDENAMIENTO_PARALELO = "Ordenamiento paralelo";
+    public static final String ORDENAMIENTO_SECUENCIAL = "Ordenamiento secuencial";
+    public static final String VERIFICACION = "Verificación";
+    public static final String HOJA = "Hoja";
+    public static final String MERGE = "Merge";
+
+    @Label("Fase")
+    final String fase;
+
+    @Label("Elementos")
+    final long elementos;
+
+    public EventoFase(String fase, long elementos) {
+        this.fase = fase;
+        this.elementos = elementos;
+    }
+}
@@ -0,0 +1,177 @@
+package ordenamiento;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+// Genera arreglos de entrada en paralelo con fork-join.
+//
+// El árbol de tareas se parte siempre por los mismos bloques y cada hijo izquierdo recibe un split()
+// del generador del padre antes de bifurcar, así una misma semilla produce el mismo arreglo con
+// cualquier número de núcleos.
+public final class GeneradorDatos {
+
+    // Los valores generados quedan en [0, VALOR_MAXIMO), como en la versión original
+    public static final int VALOR_MAXIMO = 1_000_000;
+
+    private static final int TAMAÑO_BLOQUE = 1 << 16;
+    private static final int PERTURBACION_CASI_ORDENADO = 100; // 1 de cada 100 elementos fuera de lugar
+    private static final int VALORES_POCOS_UNICOS = 16;
+
+    public enum Distribucion {
+        UNIFORME,
+        ORDENADO,
+        INVERSO,
+        CASI_ORDENADO,
+        POCOS_UNICOS,
+        ZIPF,
+        ORGANO
+    }
+
+    private GeneradorDatos() {
+    }
+
+    public static int[] generar(int tamaño, Distribucion distribucion, long semilla) {
+        return generar(tamaño, distribucion, semilla, ForkJoinPool.commonPool());
+    }
+
+    public static int[] generar(int tamaño, Distribucion distribucion, long semilla, ForkJoinPool pool) {
+        int[] arreglo = new int[tamaño];
+        pool.invoke(new Relleno(arreglo, 0, tamaño, distribucion, new SplittableRandom(semilla)));
+        return arreglo;
+    }
+
+    // Entrega por tramos, en orden y desde un solo hilo, exactamente el mismo arreglo que generar():
+    // recorre el mismo árbol de bloques haciendo los mismos split() que las tareas de Relleno
+    public static final class Secuencia {
+        private final int tamaño;
+        private final Distribucion distribucion;
+        private final Deque<Relleno> pendientes = new ArrayDeque<>();
+        private final int[] hoja = new int[TAMAÑO_BLOQUE];
+        private int cursor = 0, largoHoja = 0;
+
+        public Secuencia(int tamaño, Distribucion distribucion, long semilla) {
+            this.tamaño = tamaño;
+            this.distribucion = distribucion;
+            pendientes.push(new Relleno(null, 0, tamaño, distribucion, new SplittableRandom(semilla)));
+        }
+
+        public int tamaño() {
+            return tamaño;
+        }
+
+        // Copia hasta largo elementos en destino desde la posición desde; 0 cuando ya no quedan
+        public int siguiente(int[] destino, int desde, int largo) {
+            int copiados = 0;
+            while (copiados < largo) {
+                if (cursor == largoHoja && !avanzar()) break;
+                int cuantos = Math.min(largo - copiados, largoHoja - cursor);
+                System.arraycopy(hoja, cursor, destino, desde + copiados, cuantos);
+                cursor += cuantos;
+                copiados += cuantos;
+            }
+            return copiados;
+        }
+
+        // Genera la siguiente hoja del árbol en el buffer; false si ya no quedan
+        private boolean avanzar() {
+            while (!pendientes.isEmpty()) {
+                Relleno nodo = pendientes.pop();
+                if (nodo.fin - nodo.inicio <= TAMAÑO_BLOQUE) {
+                    rellenar(hoja, nodo.inicio, nodo.inicio, nodo.fin, tamaño, distribucion, nodo.aleatorio);
+                    cursor = 0;
+                    largoHoja = nodo.fin - nodo.inicio;
+                    return true;
+                }
+                // Mismo orden que Relleno.compute(): el split del hijo izquierdo antes de usar el del padre
+                int medio = (nodo.inicio + nodo.fin) >>> 1;
+                Relleno izquierda = new Relleno(null, nodo.inicio, medio, distribucion, nodo.aleatorio.split());
+                pendientes.push(new Relleno(null, medio, nodo.fin, distribucion, nodo.aleatorio));
+                pendientes.push(izquierda);
+            }
+            return false;
+        }
+    }
+
+    // Valor de la rampa ascendente 0..VALOR_MAXIMO en la posición i de un arreglo de n elementos
+    private static int rampa(long i, long n) {
+        return (int) (i * VALOR_MAXIMO / n);
+    }
+
+    static class Relleno extends RecursiveAction {
+        private final int[] arreglo;
+        private final int inicio, fin;
+        private final Distribucion distribucion;
+        private final SplittableRandom aleatorio;
+
+        Relleno(int[] arreglo, int inicio, int fin, Distribucion distribucion, SplittableRandom aleatorio) {
+            this.arreglo = arreglo;
+            this.inicio = inicio;
+            this.fin = fin;
+            this.distribucion = distribucion;
+            this.aleatorio = aleatorio;
+        }
+
+        @Override
+        protected void compute() {
+            if (fin - inicio <= TAMAÑO_BLOQUE) {
+                rellenar();
+            } else {
+                int medio = (inicio + fin) >>> 1;
+                Relleno izquierda = new Relleno(arreglo, inicio, medio, distribucion, aleatorio.split());
+                Relleno derecha = new Relleno(arreglo, medio, fin, distribucion, aleatorio);
+                invokeAll(izquierda, derecha);
+            }
+        }
+
+        private void rellenar() {
+            GeneradorDatos.rellenar(arreglo, 0, inicio, fin, arreglo.length, distribucion, aleatorio);
+        }
+    }
+
+    // Llena las posiciones [inicio, fin) de un arreglo de n elementos; la posición i se escribe en
+    // destino[i - desplazamiento]
+    private static void rellenar(int[] destino, int desplazamiento, int inicio, int fin, int n,
+                                 Distribucion distribucion, SplittableRandom aleatorio) {
+        int d = desplazamiento;
+        switch (distribucion) {
+            case UNIFORME:
+                for (int i = inicio; i < fin; i++) destino[i - d] = aleatorio.nextInt(VALOR_MAXIMO);
+                break;
+            case ORDENADO:
+                for (int i = inicio; i < fin; i++) destino[i - d] = rampa(i, n);
+                break;
+            case INVERSO:
+                for (int i = inicio; i < fin; i++) destino[i - d] = rampa(n - 1 - i, n);
+                break;
+            case CASI_ORDENADO:
+                for (int i = inicio; i < fin; i++) {
+                    destino[i - d] = aleatorio.nextInt(PERTURBACION_CASI_ORDENADO) == 0
+                            ? aleatorio.nextInt(VALOR_MAXIMO) : rampa(i, n);
+                }
+                break;
+            case POCOS_UNICOS:
+                for (int i = inicio; i < fin; i++) {
+                    destino[i - d] = aleatorio.nextInt(VALORES_POCOS_UNICOS) * (VALOR_MAXIMO / VALORES_POCOS_UNICOS);
+                }
+                break;
+            case ZIPF:
+                // Aproximación continua de Zipf con s = 1: el rango se muestrea de forma log-uniforme,
+                // así el valor k aparece con frecuencia proporcional a 1/k
+                double logMaximo = Math.log(VALOR_MAXIMO);
+                for (int i = inicio; i < fin; i++) {
+                    destino[i - d] = (int) Math.exp(aleatorio.nextDouble() * logMaximo) - 1;
+                }
+                break;
+            case ORGANO:
+                // Sube hasta la mitad y baja simétricamente
+                long mitad = Math.max(1, (n + 1) / 2);
+                for (int i = inicio; i < fin; i++) destino[i - d] = rampa(Math.min(i, n - 1 - i), mitad);
+                break;
+            default:
+                throw new IllegalArgumentException("Distribución desconocida: " + distribucion);
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package ordenamiento;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+
+// Historial persistente de las corridas de la comparativa, para graficar su tendencia entre sesiones
+// sin volver a ejecutar nada.
+//
+// Cada corrida es una línea CSV que se agrega al final de ~/.forkjoinparalelo/historial.csv; el
+// archivo se lee una vez al crear el historial y en memoria quedan las últimas MAX_EN_MEMORIA.
+public class HistorialCorridas {
+
+    public static final int MAX_EN_MEMORIA = 10_000;
+    private static final String ENCABEZADO =
+            "instante,tamano,distribucion,paralelismo,umbral,algoritmo,ms_paralelo,ms_secuencial,correcta";
+
+    public static final class Corrida {
+        public final long instante; // Milisegundos desde la época
+        public final int tamaño;
+        public final String distribucion;
+        public final int paralelismo;
+        public final int umbral;
+        public final String algoritmo;
+        public final long msParalelo;
+        public final long msSecuencial; // -1 si no se ordenó la referencia secuencial
+        public final boolean correcta;
+
+        public Corrida(long instante, int tamaño, String distribucion, int paralelismo, int umbral, String algoritmo,
+                       long msParalelo, long msSecuencial, boolean correcta) {
+            this.instante = instante;
+            this.tamaño = tamaño;
+            this.distribucion = distribucion;
+            this.paralelismo = paralelismo;
+            this.umbral = umbral;
+            this.algoritmo = algoritmo;
+            this.msParalelo = msParalelo;
+            this.msSecuencial = msSecuencial;
+            this.correcta = correcta;
+        }
+
+        // Misma configuración: sus tiempos se pueden comparar entre sí
+        public boolean comparableCon(Corrida otra) {
+            return tamaño == otra.tamaño && paralelismo == otra.paralelismo
+                    && distribucion.equals(otra.distribucion) && algoritmo.equals(otra.algoritmo);
+        }
+
+        String aCsv() {
+            return instante + "," + tamaño + "," + distribucion + "," + paralelismo + "," + umbral + ","
+                    + "\"" + algoritmo.replace("\"", "\"\"") + "\"," + msParalelo + "," + msSecuencial + "," + correcta;
+        }
+
+        static Corrida deCsv(String linea) {
+            List<String> campos = separar(linea);
+            if (campos.size() != 9) throw new IllegalArgumentException("Línea de historial inválida: " + linea);
+            return new Corrida(Long.parseLong(campos.get(0)), Integer.parseInt(campos.get(1)), campos.get(2),
+                               Integer.parseInt(campos.get(3)), Integer.parseInt(campos.get(4)), campos.get(5),
+                               Long.parseLong(campos.get(6)), Long.parseLong(campos.get(7)),
+                               Boolean.parseBoolean(campos.get(8)));
+        }
+    }
+
+    private final Path archivo;
+    private final Deque<Corrida> corridas = new ArrayDeque<>();
+
+    public HistorialCorridas(Path archivo) {
+        this.archivo = archivo;
+        cargar();
+    }
+
+    public static HistorialCorridas delUsuario() {
+        return new HistorialCorridas(Paths.get(System.getProperty("user.home"), ".forkjoinparalelo", "historial.csv"));
+    }
+
+    // Agrega la corrida en memoria y al final del archivo; desde cualquier hilo menos el de la UI
+    public synchronized void agregar(Corrida corrida) {
+        recordar(corrida);
+        try {
+            Files.createDirectories(archivo.getParent());
+            boolean nuevo = !Files.exists(archivo);
+            try (Writer escritor = Files.newBufferedWriter(archivo, StandardOpenOption.CREATE,
+                                                           StandardOpenOption.APPEND)) {
+                if (nuevo) escritor.write(ENCABEZADO + "\n");
+                escritor.write(corrida.aCsv() + "\n");
+            }
+        } catch (IOException e) {
+            System.err.println("⚠ No se pudo guardar la corrida en " + archivo + ": " + e.getMessage());
+        }
+    }
+
+    // Las corridas comparables con referencia, de la más vieja a la más nueva, hasta maximo
+    public synchronized List<Corrida> comparables(Corrida referencia, int maximo) {
+        List<Corrida> resultado = new ArrayList<>();
+        Iterator<Corrida> it = corridas.descendingIterator();
+        while (it.hasNext() && resultado.size() < maximo) {
+            Corrida corrida = it.next();
+            if (corrida.comparableCon(referencia)) resultado.add(corrida);
+        }
+        Collections.reverse(resultado);
+        return resultado;
+    }
+
+    private void recordar(Corrida corrida) {
+        if (corridas.size() == MAX_EN_MEMORIA) corridas.removeFirst();
+        corridas.addLast(corrida);
+    }
+
+    // El historial es solo informativo: las líneas que no se entienden se saltean
+    private void cargar() {
+        if (!Files.isRegularFile(archivo)) return;
+        try (BufferedReader lector = Files.newBufferedReader(archivo)) {
+            String linea;
+            while ((linea = lector.readLine()) != null) {
+                if (linea.isBlank() || linea.startsWith("instante,")) continue;
+                try {
+                    recordar(Corrida.deCsv(linea));
+                } catch (IllegalArgumentException e) {
+                    // Línea cortada por un cierre a mitad de escritura o de una versión anterior
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("⚠ No se pudo leer el historial " + archivo + ": " + e.getMessage());
+        }
+    }
+
+    // Separa una línea CSV respetando los campos entre comillas
+    static List<String> separar(String linea) {
+        List<String> campos = new ArrayList<>();
+        StringBuilder campo = new StringBuilder();
+        boolean entreComillas = false;
+        for (int i = 0; i < linea.length(); i++) {
+            char c = linea.charAt(i);
+            if (entreComillas) {
+                if (c == '"' && i + 1 < linea.length() && linea.charAt(i + 1) == '"') {
+                    campo.append('"');
+                    i++;
+                } else if (c == '"') {
+                    entreComillas = false;
+                } else {
+                    campo.append(c);
+                }
+            } else if (c == '"') {
+                entreComillas = true;
+            } else if (c == ',') {
+                campos.add(campo.toString());
+                campo.setLength(0);
+            } else {
+                campo.append(c);
+            }
+        }
+        campos.add(campo.toString());
+        return campos;
+    }
+}
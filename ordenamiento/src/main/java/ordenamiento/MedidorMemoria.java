@@ -0,0 +1,128 @@
+package ordenamiento;
+
+import com.sun.management.GarbageCollectionNotificationInfo;
+
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.openmbean.CompositeData;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.lang.management.ThreadMXBean;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Mide por fase el pico de heap y los bytes asignados por todos los hilos de la JVM.
+//
+// Entre dos recolecciones el heap usado solo crece, así que su pico dentro de la fase es el mayor
+// total de los pools de heap justo antes de cada GC, que llega por notificación, o al terminar. Los
+// picos que guarda cada pool por separado no sirven: ocurren en momentos distintos (eden antes de
+// cada GC joven, old más tarde) y su suma puede pasar de -Xmx. Los bytes asignados salen del
+// contador por hilo de HotSpot; los hilos que nacen y mueren dentro de la fase no se cuentan, por
+// eso conviene reutilizar los pools de fork-join entre fases.
+public class MedidorMemoria {
+
+    // Medidores con una fase en curso; un único listener de GC, registrado la primera vez, los actualiza
+    private static final Set<MedidorMemoria> activos = ConcurrentHashMap.newKeySet();
+    private static boolean escuchandoGc;
+
+    private final ThreadMXBean hilos = ManagementFactory.getThreadMXBean();
+    private final AtomicLong picoHeap = new AtomicLong();
+    private long asignadosAlInicio;
+
+    public static final class Medicion {
+        public final String fase;
+        public final long picoHeap;
+        public final long bytesAsignados; // -1 si la JVM no lo soporta
+
+        Medicion(String fase, long picoHeap, long bytesAsignados) {
+            this.fase = fase;
+            this.picoHeap = picoHeap;
+            this.bytesAsignados = bytesAsignados;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("💾 %-24s pico heap %,6d MB | asignado %s", fase, picoHeap >> 20,
+                                 bytesAsignados < 0 ? "n/d" : String.format("%,d MB", bytesAsignados >> 20));
+        }
+    }
+
+    public void iniciarFase() {
+        escucharGc();
+        picoHeap.set(heapUsado());
+        activos.add(this);
+        asignadosAlInicio = bytesAsignados();
+    }
+
+    public Medicion terminarFase(String fase) {
+        activos.remove(this);
+        long pico = Math.max(picoHeap.get(), heapUsado());
+        long asignados = bytesAsignados();
+        return new Medicion(fase, pico, asignados < 0 ? -1 : asignados - asignadosAlInicio);
+    }
+
+    // Deja de seguir la fase en curso sin medirla; sirve para cerrar en un finally aunque no haya fase
+    public void cancelar() {
+        activos.remove(this);
+    }
+
+    // Suma en un mismo instante el uso de todos los pools de heap
+    private static long heapUsado() {
+        long usado = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                usado += pool.getUsage().getUsed();
+            }
+        }
+        return usado;
+    }
+
+    private static synchronized void escucharGc() {
+        if (escuchandoGc) return;
+        escuchandoGc = true;
+        Set<String> poolsHeap = new HashSet<>();
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) poolsHeap.add(pool.getName());
+        }
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            if (!(gc instanceof NotificationEmitter)) continue;
+            ((NotificationEmitter) gc).addNotificationListener(
+                    (Notification notificacion, Object contexto) -> registrarGc(notificacion, poolsHeap),
+                    notificacion -> GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION
+                            .equals(notificacion.getType()),
+                    null);
+        }
+    }
+
+    // El total antes de la recolección es el máximo desde la anterior
+    private static void registrarGc(Notification notificacion, Set<String> poolsHeap) {
+        if (activos.isEmpty()) return;
+        GarbageCollectionNotificationInfo info =
+                GarbageCollectionNotificationInfo.from((CompositeData) notificacion.getUserData());
+        long antes = 0;
+        for (Map.Entry<String, MemoryUsage> uso : info.getGcInfo().getMemoryUsageBeforeGc().entrySet()) {
+            if (poolsHeap.contains(uso.getKey())) antes += uso.getValue().getUsed();
+        }
+        for (MedidorMemoria medidor : activos) {
+            medidor.picoHeap.accumulateAndGet(antes, Math::max);
+        }
+    }
+
+    private long bytesAsignados() {
+        if (!(hilos instanceof com.sun.management.ThreadMXBean)) return -1;
+        com.sun.management.ThreadMXBean hotspot = (com.sun.management.ThreadMXBean) hilos;
+        if (!hotspot.isThreadAllocatedMemorySupported() || !hotspot.isThreadAllocatedMemoryEnabled()) return -1;
+
+        long total = 0;
+        for (long asignados : hotspot.getThreadAllocatedBytes(hilos.getAllThreadIds())) {
+            if (asignados > 0) total += asignados;
+        }
+        return total;
+    }
+}
@@ -0,0 +1,157 @@
+package ordenamiento;
+
+import java.util.Arrays;
+import java.util.concurrent.RecursiveAction;
+
+// MergeSortParalelo especializado para double[], con el mismo orden total que Arrays.sort:
+// -0.0 va antes que 0.0 y los NaN van al final.
+//
+// Como en el JDK, la raíz primero manda los NaN al final y cambia los -0.0 por 0.0 contándolos;
+// así el árbol fork-join compara con <= sin casos especiales y al terminar los -0.0 vuelven al
+// principio del bloque de ceros. Los NaN conservan sus bits porque solo se intercambian.
+public class MergeSortParaleloDouble extends RecursiveAction {
+
+    private final double[] arreglo;
+    private final double[] origen; // null solo en la raíz, antes de reservar el buffer
+    private final int inicio, fin;
+    private int umbral;
+    private final int umbralMerge;
+
+    public MergeSortParaleloDouble(double[] arreglo, int inicio, int fin, int umbral) {
+        this(arreglo, inicio, fin, umbral, MergeSortParaleloUI.MergeSortParalelo.UMBRAL_MERGE_POR_DEFECTO);
+    }
+
+    // umbral y umbralMerge significan lo mismo que en MergeSortParalelo, incluido UMBRAL_AUTOMATICO
+    public MergeSortParaleloDouble(double[] arreglo, int inicio, int fin, int umbral, int umbralMerge) {
+        this(arreglo, null, inicio, fin, umbral, umbralMerge);
+    }
+
+    private MergeSortParaleloDouble(double[] arreglo, double[] origen, int inicio, int fin, int umbral,
+                                    int umbralMerge) {
+        this.arreglo = arreglo;
+        this.origen = origen;
+        this.inicio = inicio;
+        this.fin = fin;
+        this.umbral = umbral;
+        this.umbralMerge = umbralMerge;
+    }
+
+    @Override
+    protected void compute() {
+        if (origen == null) {
+            ordenarRaiz();
+            return;
+        }
+
+        if (fin - inicio <= umbral) {
+            // Ambos arreglos aún tienen los datos originales del rango
+            Arrays.sort(arreglo, inicio, fin);
+            return;
+        }
+
+        int medio = (inicio + fin) >>> 1;
+        // Los hijos dejan sus mitades ordenadas en origen para que este nivel las mezcle en arreglo
+        invokeAll(new MergeSortParaleloDouble(origen, arreglo, inicio, medio, umbral, umbralMerge),
+                  new MergeSortParaleloDouble(origen, arreglo, medio, fin, umbral, umbralMerge));
+        if (umbralMerge > 0 && fin - inicio > umbralMerge) {
+            new MergeParalelo(origen, inicio, medio, medio, fin, arreglo, inicio, umbralMerge).invoke();
+        } else {
+            mezclar(origen, inicio, medio, medio, fin, arreglo, inicio);
+        }
+    }
+
+    private void ordenarRaiz() {
+        // NaN al final y -0.0 convertidos en 0.0
+        int ultimo = fin;
+        int cerosNegativos = 0;
+        for (int i = inicio; i < ultimo; ) {
+            double valor = arreglo[i];
+            if (valor != valor) {
+                arreglo[i] = arreglo[--ultimo];
+                arreglo[ultimo] = valor;
+            } else {
+                if (valor == 0.0 && Double.doubleToRawLongBits(valor) < 0) {
+                    arreglo[i] = 0.0;
+                    cerosNegativos++;
+                }
+                i++;
+            }
+        }
+
+        umbral = MergeSortParaleloLong.resolverUmbral(umbral, ultimo - inicio, getPool());
+        // Única reserva de memoria de todo el ordenamiento
+        double[] aux = new double[arreglo.length];
+        System.arraycopy(arreglo, inicio, aux, inicio, ultimo - inicio);
+        new MergeSortParaleloDouble(arreglo, aux, inicio, ultimo, umbral, umbralMerge).compute();
+
+        if (cerosNegativos > 0) {
+            int primerCero = cotaInferior(arreglo, inicio, ultimo, 0.0);
+            Arrays.fill(arreglo, primerCero, primerCero + cerosNegativos, -0.0);
+        }
+    }
+
+    static void mezclar(double[] fuente, int a0, int a1, int b0, int b1, double[] destino, int k) {
+        int i = a0, j = b0;
+        while (i < a1 && j < b1) {
+            destino[k++] = (fuente[i] <= fuente[j]) ? fuente[i++] : fuente[j++];
+        }
+        System.arraycopy(fuente, i, destino, k, a1 - i);
+        System.arraycopy(fuente, j, destino, k + (a1 - i), b1 - j);
+    }
+
+    static int cotaInferior(double[] a, int desde, int hasta, double clave) {
+        while (desde < hasta) {
+            int m = (desde + hasta) >>> 1;
+            if (a[m] < clave) desde = m + 1; else hasta = m;
+        }
+        return desde;
+    }
+
+    static int cotaSuperior(double[] a, int desde, int hasta, double clave) {
+        while (desde < hasta) {
+            int m = (desde + hasta) >>> 1;
+            if (a[m] <= clave) desde = m + 1; else hasta = m;
+        }
+        return desde;
+    }
+
+    // Igual que MergeSortParalelo.MergeParalelo; sin NaN ni -0.0 las comparaciones directas bastan
+    static class MergeParalelo extends RecursiveAction {
+        private final double[] fuente, destino;
+        private final int a0, a1, b0, b1, k;
+        private final int umbralMerge;
+
+        MergeParalelo(double[] fuente, int a0, int a1, int b0, int b1, double[] destino, int k, int umbralMerge) {
+            this.fuente = fuente;
+            this.a0 = a0;
+            this.a1 = a1;
+            this.b0 = b0;
+            this.b1 = b1;
+            this.destino = destino;
+            this.k = k;
+            this.umbralMerge = umbralMerge;
+        }
+
+        @Override
+        protected void compute() {
+            int largoA = a1 - a0, largoB = b1 - b0;
+            if (largoA + largoB <= Math.max(umbralMerge, 2) || largoA == 0 || largoB == 0) {
+                mezclar(fuente, a0, a1, b0, b1, destino, k);
+                return;
+            }
+
+            int corteA, corteB;
+            if (largoA >= largoB) {
+                corteA = (a0 + a1) >>> 1;
+                corteB = cotaInferior(fuente, b0, b1, fuente[corteA]);
+            } else {
+                corteB = (b0 + b1) >>> 1;
+                corteA = cotaSuperior(fuente, a0, a1, fuente[corteB]);
+            }
+
+            int kDerecha = k + (corteA - a0) + (corteB - b0);
+            invokeAll(new MergeParalelo(fuente, a0, corteA, b0, corteB, destino, k, umbralMerge),
+                      new MergeParalelo(fuente, corteA, a1, corteB, b1, destino, kDerecha, umbralMerge));
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package ordenamiento;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+// MergeSortParalelo especializado para long[] (por ejemplo marcas de tiempo de 64 bits).
+//
+// Misma estructura que la versión int con BUFFER_ALTERNADO: un único buffer auxiliar por
+// ordenamiento, hojas con Arrays.sort a partir de umbral y merges que se reparten en paralelo por
+// encima de umbralMerge. Sin boxing ni reservas por elemento.
+public class MergeSortParaleloLong extends RecursiveAction {
+
+    private final long[] arreglo;
+    private final long[] origen; // null solo en la raíz, antes de reservar el buffer
+    private final int inicio, fin;
+    private int umbral;
+    private final int umbralMerge;
+
+    public MergeSortParaleloLong(long[] arreglo, int inicio, int fin, int umbral) {
+        this(arreglo, inicio, fin, umbral, MergeSortParaleloUI.MergeSortParalelo.UMBRAL_MERGE_POR_DEFECTO);
+    }
+
+    // umbral y umbralMerge significan lo mismo que en MergeSortParalelo, incluido UMBRAL_AUTOMATICO
+    public MergeSortParaleloLong(long[] arreglo, int inicio, int fin, int umbral, int umbralMerge) {
+        this(arreglo, null, inicio, fin, umbral, umbralMerge);
+    }
+
+    private MergeSortParaleloLong(long[] arreglo, long[] origen, int inicio, int fin, int umbral, int umbralMerge) {
+        this.arreglo = arreglo;
+        this.origen = origen;
+        this.inicio = inicio;
+        this.fin = fin;
+        this.umbral = umbral;
+        this.umbralMerge = umbralMerge;
+    }
+
+    @Override
+    protected void compute() {
+        if (origen == null) {
+            umbral = resolverUmbral(umbral, fin - inicio, getPool());
+            // Única reserva de memoria de todo el ordenamiento
+            long[] aux = new long[arreglo.length];
+            System.arraycopy(arreglo, inicio, aux, inicio, fin - inicio);
+            new MergeSortParaleloLong(arreglo, aux, inicio, fin, umbral, umbralMerge).compute();
+            return;
+        }
+
+        if (fin - inicio <= umbral) {
+            // Ambos arreglos aún tienen los datos originales del rango
+            Arrays.sort(arreglo, inicio, fin);
+            return;
+        }
+
+        int medio = (inicio + fin) >>> 1;
+        // Los hijos dejan sus mitades ordenadas en origen para que este nivel las mezcle en arreglo
+        invokeAll(new MergeSortParaleloLong(origen, arreglo, inicio, medio, umbral, umbralMerge),
+                  new MergeSortParaleloLong(origen, arreglo, medio, fin, umbral, umbralMerge));
+        if (umbralMerge > 0 && fin - inicio > umbralMerge) {
+            new MergeParalelo(origen, inicio, medio, medio, fin, arreglo, inicio, umbralMerge).invoke();
+        } else {
+            mezclar(origen, inicio, medio, medio, fin, arreglo, inicio);
+        }
+    }
+
+    static int resolverUmbral(int umbral, int tamaño, ForkJoinPool pool) {
+        if (umbral > MergeSortParaleloUI.MergeSortParalelo.UMBRAL_AUTOMATICO) return umbral;
+        int paralelismo = pool != null ? pool.getParallelism() : ForkJoinPool.getCommonPoolParallelism();
+        return AjusteUmbral.umbralPara(tamaño, paralelismo);
+    }
+
+    static void mezclar(long[] fuente, int a0, int a1, int b0, int b1, long[] destino, int k) {
+        int i = a0, j = b0;
+        while (i < a1 && j < b1) {
+            destino[k++] = (fuente[i] <= fuente[j]) ? fuente[i++] : fuente[j++];
+        }
+        System.arraycopy(fuente, i, destino, k, a1 - i);
+        System.arraycopy(fuente, j, destino, k + (a1 - i), b1 - j);
+    }
+
+    static int cotaInferior(long[] a, int desde, int hasta, long clave) {
+        while (desde < hasta) {
+            int m = (desde + hasta) >>> 1;
+            if (a[m] < clave) desde = m + 1; else hasta = m;
+        }
+        return desde;
+    }
+
+    static int cotaSuperior(long[] a, int desde, int hasta, long clave) {
+        while (desde < hasta) {
+            int m = (desde + hasta) >>> 1;
+            if (a[m] <= clave) desde = m + 1; else hasta = m;
+        }
+        return desde;
+    }
+
+    // Igual que MergeSortParalelo.MergeParalelo
+    static class MergeParalelo extends RecursiveAction {
+        private final long[] fuente, destino;
+        private final int a0, a1, b0, b1, k;
+        private final int umbralMerge;
+
+        MergeParalelo(long[] fuente, int a0, int a1, int b0, int b1, long[] destino, int k, int umbralMerge) {
+            this.fuente = fuente;
+            this.a0 = a0;
+            this.a1 = a1;
+            this.b0 = b0;
+            this.b1 = b1;
+            this.destino = destino;
+            this.k = k;
+            this.umbralMerge = umbralMerge;
+        }
+
+        @Override
+        protected void compute() {
+            int largoA = a1 - a0, largoB = b1 - b0;
+            if (largoA + largoB <= Math.max(umbralMerge, 2) || largoA == 0 || largoB == 0) {
+                mezclar(fuente, a0, a1, b0, b1, destino, k);
+                return;
+            }
+
+            int corteA, corteB;
+            if (largoA >= largoB) {
+                corteA = (a0 + a1) >>> 1;
+                corteB = cotaInferior(fuente, b0, b1, fuente[corteA]);
+            } else {
+                corteB = (b0 + b1) >>> 1;
+                corteA = cotaSuperior(fuente, a0, a1, fuente[corteB]);
+            }
+
+            int kDerecha = k + (corteA - a0) + (corteB - b0);
+            invokeAll(new MergeParalelo(fuente, a0, corteA, b0, corteB, destino, k, umbralMerge),
+                      new MergeParalelo(fuente, corteA, a1, corteB, b1, destino, kDerecha, umbralMerge));
+        }
+    }
+}
@@ -0,0 +1,1540 @@
+package ordenamiento;
+
+import javafx.animation.Animation;
+import javafx.animation.KeyFrame;
+import javafx.animation.Timeline;
+import javafx.application.Application;
+import javafx.application.Platform;
+import javafx.beans.property.SimpleBooleanProperty;
+import javafx.beans.property.SimpleDoubleProperty;
+import javafx.beans.property.SimpleStringProperty;
+import javafx.concurrent.Task;
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+import javafx.scene.chart.BarChart;
+import javafx.scene.chart.CategoryAxis;
+import javafx.scene.chart.LineChart;
+import javafx.scene.chart.NumberAxis;
+import javafx.scene.chart.XYChart;
+import javafx.scene.control.*;
+import javafx.scene.layout.*;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.FontWeight;
+import javafx.scene.text.Text;
+import javafx.stage.Stage;
+import javafx.util.Duration;
+import javafx.util.StringConverter;
+
+import ordenamiento.OrdenamientoHoja.KernelMezcla;
+
+import java.io.IOException;
+import java.text.NumberFormat;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.RecursiveAction;
+
+public class MergeSortParaleloUI extends Application {
+
+    // Algoritmos que pueden ocupar el lado "paralelo" de la comparativa
+    public enum AlgoritmoParalelo {
+        MERGE_SORT,
+        SAMPLE_SORT,
+        RADIX_SORT
+    }
+
+    // Modelo de datos
+    private long tiempoParalelo;
+    private long tiempoSecuencial;
+    private int tamañoArreglo = 10_000_000; // Valor por defecto
+    private int umbral = 1_000_000; // Valor por defecto
+    private boolean umbralAutomatico = false;
+    private GeneradorDatos.Distribucion distribucion = GeneradorDatos.Distribucion.UNIFORME;
+    private Long semilla = null; // null: semilla nueva en cada corrida
+    private boolean estudioEscalabilidad = false;
+    private boolean verificacionLigera = false;   // Sin copia de la entrada: orden + huella del multiconjunto
+    private boolean ordenamientoSecuencial = true; // Arrays.sort de referencia para comparar tiempos
+    private boolean seleccionTopK = false;        // Solo los k menores, contra ordenar todo y cortar
+    private int k = 100;
+    private boolean modoFlujo = false;            // Ordena por bloques mientras se genera la entrada
+    
+    // Un pool por nivel de paralelismo, reutilizado entre corridas y cerrado al salir
+    private final Map<Integer, ForkJoinPool> pools = new ConcurrentHashMap<>();
+    private final HistorialCorridas historial = HistorialCorridas.delUsuario();
+    private static final int CORRIDAS_EN_TENDENCIA = 200;
+    private static final int REPETICIONES_ESTUDIO = 2;
+    private AlgoritmoParalelo algoritmoParalelo = AlgoritmoParalelo.MERGE_SORT;
+    private MergeSortParalelo.EstrategiaMerge estrategiaMerge = MergeSortParalelo.EstrategiaMerge.BUFFER_ALTERNADO;
+    private boolean mergeParalelo = true;
+    private boolean modoAdaptativo = false; // Aprovecha corridas ya ordenadas y galopa en los merges
+    private boolean hojasEnBloques = false; // Hojas con OrdenamientoHoja y merges sin saltos o vectoriales
+    
+    // Propiedades para binding
+    private final SimpleDoubleProperty progresoParalelo = new SimpleDoubleProperty(0);
+    private final SimpleDoubleProperty progresoSecuencial = new SimpleDoubleProperty(0);
+    private final SimpleBooleanProperty ordenando = new SimpleBooleanProperty(false);
+    private final SimpleStringProperty estadoActual = new SimpleStringProperty("Listo para ordenar");
+    
+    // Componentes UI
+    private ProgressBar barraProgresoParalelo;
+    private ProgressBar barraProgresoSecuencial;
+    private Button btnIniciar;
+    private Slider sliderTamaño;
+    private Slider sliderUmbral;
+    private TextField txtUmbral;
+    private ComboBox<MergeSortParalelo.EstrategiaMerge> comboEstrategia;
+    private CheckBox chkMergeParalelo;
+    private CheckBox chkAdaptativo;
+    private CheckBox chkHojasEnBloques;
+    private ComboBox<GeneradorDatos.Distribucion> comboDistribucion;
+    private TextField txtSemilla;
+    private BarChart<String, Number> graficaTiempos;
+    private VBox panelGrafica;
+    private Label lblGrafica;
+    private VBox panelEscalabilidad;
+    private LineChart<Number, Number> graficaSpeedup;
+    private LineChart<Number, Number> graficaEficiencia;
+    private ConsolaAsincrona consola;
+    private LineChart<Number, Number> graficaHistorial;
+    private Label lblResultado;
+    private Label lblEstadisticasPool;
+    
+    // Muestreo periódico del ordenamiento paralelo en curso (solo se toca desde el hilo de la UI)
+    private Timeline muestreo;
+    private int maxHilosActivos;
+    private long maxTareasEnCola;
+    private long robosAlInicio; // El pool se reutiliza entre corridas: sus robos se acumulan
+
+    @Override
+    public void start(Stage primaryStage) {
+        primaryStage.setTitle("🚀 MergeSort Paralelo vs Secuencial");
+        
+        BorderPane root = new BorderPane();
+        root.setPadding(new Insets(20));
+        root.setStyle("-fx-background-color: #f0f5ff;");
+        
+        // Panel superior
+        VBox panelSuperior = crearPanelSuperior();
+        root.setTop(panelSuperior);
+        
+        // Panel central
+        HBox panelCentral = crearPanelCentral();
+        root.setCenter(panelCentral);
+        
+        // Panel inferior
+        VBox panelInferior = crearPanelInferior();
+        root.setBottom(panelInferior);
+        
+        Scene scene = new Scene(root, 900, 700);
+        primaryStage.setScene(scene);
+        primaryStage.show();
+    }
+    
+    private VBox crearPanelSuperior() {
+        VBox panel = new VBox(15);
+        panel.setPadding(new Insets(0, 0, 20, 0));
+        panel.setAlignment(Pos.CENTER);
+        
+        // Título
+        Text titulo = new Text("Comparativa de Algoritmos de Ordenamiento");
+        titulo.setFont(Font.font("System", FontWeight.BOLD, 24));
+        titulo.setFill(Color.valueOf("#2a4d69"));
+        
+        // Configuración del tamaño
+        HBox panelTamaño = new HBox(15);
+        panelTamaño.setAlignment(Pos.CENTER);
+        
+        Label lblTamaño = new Label("Tamaño del arreglo:");
+        lblTamaño.setFont(Font.font("System", FontWeight.BOLD, 14));
+        
+        sliderTamaño = new Slider(1_000_000, 100_000_000, tamañoArreglo);
+        sliderTamaño.setPrefWidth(300);
+        sliderTamaño.setShowTickLabels(true);
+        sliderTamaño.setShowTickMarks(true);
+        sliderTamaño.setMajorTickUnit(25_000_000);
+        sliderTamaño.setBlockIncrement(5_000_000);
+        
+        // Formateador para mostrar millones
+        sliderTamaño.setLabelFormatter(new StringConverter<Double>() {
+            @Override
+            public String toString(Double n) {
+                return (n / 1_000_000) + "M";
+            }
+
+            @Override
+            public Double fromString(String s) {
+                return Double.valueOf(s);
+            }
+        });
+        
+        TextField txtTamaño = new TextField(NumberFormat.getNumberInstance(Locale.US).format(tamañoArreglo));
+        txtTamaño.setPrefWidth(120);
+        txtTamaño.setEditable(false);
+        
+        // Actualizar el campo de texto cuando se mueve el slider
+        sliderTamaño.valueProperty().addListener((obs, oldVal, newVal) -> {
+            tamañoArreglo = newVal.intValue();
+            txtTamaño.setText(NumberFormat.getNumberInstance(Locale.US).format(tamañoArreglo));
+        });
+        
+        panelTamaño.getChildren().addAll(lblTamaño, sliderTamaño, txtTamaño);
+        
+        // Configuración del umbral
+        HBox panelUmbral = new HBox(15);
+        panelUmbral.setAlignment(Pos.CENTER);
+        
+        Label lblUmbral = new Label("Umbral secuencial:");
+        lblUmbral.setFont(Font.font("System", FontWeight.BOLD, 14));
+        
+        sliderUmbral = new Slider(10_000, 5_000_000, umbral);
+        sliderUmbral.setPrefWidth(300);
+        sliderUmbral.setShowTickLabels(true);
+        sliderUmbral.setShowTickMarks(true);
+        sliderUmbral.setMajorTickUnit(1_000_000);
+        sliderUmbral.setBlockIncrement(100_000);
+        
+        // Formateador para mostrar miles/millones
+        sliderUmbral.setLabelFormatter(new StringConverter<Double>() {
+            @Override
+            public String toString(Double n) {
+                if (n >= 1_000_000)
+                    return (n / 1_000_000) + "M";
+                return (n / 1_000) + "K";
+            }
+
+            @Override
+            public Double fromString(String s) {
+                return Double.valueOf(s);
+            }
+        });
+        
+        txtUmbral = new TextField(NumberFormat.getNumberInstance(Locale.US).format(umbral));
+        txtUmbral.setPrefWidth(120);
+        txtUmbral.setEditable(false);
+        
+        // Actualizar el campo de texto cuando se mueve el slider
+        sliderUmbral.valueProperty().addListener((obs, oldVal, newVal) -> {
+            umbral = newVal.intValue();
+            txtUmbral.setText(NumberFormat.getNumberInstance(Locale.US).format(umbral));
+        });
+        
+        // En modo automático el umbral lo decide la calibración y se muestra al ordenar
+        CheckBox chkUmbralAuto = new CheckBox("Automático");
+        chkUmbralAuto.setSelected(umbralAutomatico);
+        chkUmbralAuto.selectedProperty().addListener((obs, oldVal, newVal) -> {
+            umbralAutomatico = newVal;
+            txtUmbral.setText(newVal ? "auto" : NumberFormat.getNumberInstance(Locale.US).format(umbral));
+        });
+        chkUmbralAuto.disableProperty().bind(ordenando);
+        sliderUmbral.disableProperty().bind(ordenando.or(chkUmbralAuto.selectedProperty()));
+        
+        panelUmbral.getChildren().addAll(lblUmbral, sliderUmbral, txtUmbral, chkUmbralAuto);
+        
+        // Configuración de la memoria auxiliar del merge
+        HBox panelEstrategia = new HBox(15);
+        panelEstrategia.setAlignment(Pos.CENTER);
+        
+        Label lblEstrategia = new Label("Memoria del merge:");
+        lblEstrategia.setFont(Font.font("System", FontWeight.BOLD, 14));
+        
+        comboEstrategia = new ComboBox<>();
+        comboEstrategia.getItems().addAll(MergeSortParalelo.EstrategiaMerge.values());
+        comboEstrategia.setValue(estrategiaMerge);
+        comboEstrategia.setPrefWidth(300);
+        comboEstrategia.valueProperty().addListener((obs, oldVal, newVal) -> estrategiaMerge = newVal);
+        comboEstrategia.disableProperty().bind(ordenando);
+        
+        chkMergeParalelo = new CheckBox("Merge paralelo");
+        chkMergeParalelo.setSelected(mergeParalelo);
+        chkMergeParalelo.selectedProperty().addListener((obs, oldVal, newVal) -> mergeParalelo = newVal);
+        chkMergeParalelo.disableProperty().bind(ordenando);
+        
+        chkAdaptativo = new CheckBox("Adaptativo");
+        chkAdaptativo.setSelected(modoAdaptativo);
+        chkAdaptativo.selectedProperty().addListener((obs, oldVal, newVal) -> modoAdaptativo = newVal);
+        chkAdaptativo.disableProperty().bind(ordenando);
+        
+        chkHojasEnBloques = new CheckBox(OrdenamientoHoja.vectorialDisponible()
+                                         ? "Hojas por bloques (vectorial)" : "Hojas por bloques (escalar)");
+        chkHojasEnBloques.setSelected(hojasEnBloques);
+        chkHojasEnBloques.selectedProperty().addListener((obs, oldVal, newVal) -> hojasEnBloques = newVal);
+        chkHojasEnBloques.disableProperty().bind(ordenando);
+        
+        panelEstrategia.getChildren().addAll(lblEstrategia, comboEstrategia, chkMergeParalelo, chkAdaptativo,
+                                             chkHojasEnBloques);
+        
+        // Selección del algoritmo paralelo
+        HBox panelAlgoritmo = new HBox(15);
+        panelAlgoritmo.setAlignment(Pos.CENTER);
+        
+        Label lblAlgoritmo = new Label("Algoritmo paralelo:");
+        lblAlgoritmo.setFont(Font.font("System", FontWeight.BOLD, 14));
+        
+        ComboBox<AlgoritmoParalelo> comboAlgoritmo = new ComboBox<>();
+        comboAlgoritmo.getItems().addAll(AlgoritmoParalelo.values());
+        comboAlgoritmo.setValue(algoritmoParalelo);
+        comboAlgoritmo.setPrefWidth(300);
+        comboAlgoritmo.valueProperty().addListener((obs, oldVal, newVal) -> algoritmoParalelo = newVal);
+        comboAlgoritmo.disableProperty().bind(ordenando);
+        
+        panelAlgoritmo.getChildren().addAll(lblAlgoritmo, comboAlgoritmo);
+        
+        // Las opciones del merge no aplican a los demás algoritmos
+        panelEstrategia.disableProperty().bind(comboAlgoritmo.valueProperty().isNotEqualTo(AlgoritmoParalelo.MERGE_SORT));
+        
+        // Configuración de los datos de entrada
+        HBox panelDatos = new HBox(15);
+        panelDatos.setAlignment(Pos.CENTER);
+        
+        Label lblDistribucion = new Label("Distribución:");
+        lblDistribucion.setFont(Font.font("System", FontWeight.BOLD, 14));
+        
+        comboDistribucion = new ComboBox<>();
+        comboDistribucion.getItems().addAll(GeneradorDatos.Distribucion.values());
+        comboDistribucion.setValue(distribucion);
+        comboDistribucion.setPrefWidth(180);
+        comboDistribucion.valueProperty().addListener((obs, oldVal, newVal) -> distribucion = newVal);
+        comboDistribucion.disableProperty().bind(ordenando);
+        
+        Label lblSemilla = new Label("Semilla:");
+        lblSemilla.setFont(Font.font("System", FontWeight.BOLD, 14));
+        
+        // Vacío: semilla aleatoria; un número fijo reproduce exactamente la misma entrada
+        txtSemilla = new TextField();
+        txtSemilla.setPromptText("aleatoria");
+        txtSemilla.setPrefWidth(120);
+        txtSemilla.textProperty().addListener((obs, oldVal, newVal) -> {
+            try {
+                semilla = newVal.isBlank() ? null : Long.valueOf(newVal.trim());
+                txtSemilla.setStyle("");
+            } catch (NumberFormatException e) {
+                semilla = null;
+                txtSemilla.setStyle("-fx-text-fill: red;");
+            }
+        });
+        txtSemilla.disableProperty().bind(ordenando);
+        
+        panelDatos.getChildren().addAll(lblDistribucion, comboDistribucion, lblSemilla, txtSemilla);
+        
+        // Botón de inicio
+        btnIniciar = new Button("▶️ Iniciar Ordenamiento");
+        btnIniciar.setFont(Font.font("System", FontWeight.BOLD, 14));
+        btnIniciar.setPrefWidth(200);
+        btnIniciar.setPrefHeight(40);
+        btnIniciar.setStyle("-fx-background-color: #4CAF50; -fx-text-fill: white;");
+        
+        btnIniciar.setOnAction(e -> iniciarOrdenamiento());
+        
+        // Inhabilitar el botón mientras está ordenando
+        btnIniciar.disableProperty().bind(ordenando);
+        
+        // Modo estudio: ordena con 1..N núcleos en lugar de comparar paralelo contra secuencial
+        CheckBox chkEscalabilidad = new CheckBox("Estudio de escalabilidad (1.." +
+                                                 Runtime.getRuntime().availableProcessors() + " núcleos)");
+        chkEscalabilidad.setSelected(estudioEscalabilidad);
+        chkEscalabilidad.selectedProperty().addListener((obs, oldVal, newVal) -> estudioEscalabilidad = newVal);
+        chkEscalabilidad.disableProperty().bind(ordenando);
+        
+        // Con verificación ligera no se guarda la entrada original: a 100M son 400 MB menos de heap
+        CheckBox chkVerificacionLigera = new CheckBox("Verificación ligera");
+        chkVerificacionLigera.setSelected(verificacionLigera);
+        chkVerificacionLigera.selectedProperty().addListener((obs, oldVal, newVal) -> verificacionLigera = newVal);
+        chkVerificacionLigera.disableProperty().bind(ordenando);
+        
+        CheckBox chkSecuencial = new CheckBox("Secuencial de referencia");
+        chkSecuencial.setSelected(ordenamientoSecuencial);
+        chkSecuencial.selectedProperty().addListener((obs, oldVal, newVal) -> ordenamientoSecuencial = newVal);
+        chkSecuencial.disableProperty().bind(ordenando);
+        
+        // Top-k: selección paralela de los k menores comparada con ordenar todo y quedarse con k
+        CheckBox chkTopK = new CheckBox("Solo los k menores, k =");
+        chkTopK.setSelected(seleccionTopK);
+        chkTopK.selectedProperty().addListener((obs, oldVal, newVal) -> seleccionTopK = newVal);
+        chkTopK.disableProperty().bind(ordenando);
+        
+        TextField txtK = new TextField(String.valueOf(k));
+        txtK.setPrefWidth(90);
+        txtK.textProperty().addListener((obs, oldVal, newVal) -> {
+            try {
+                k = Integer.parseInt(newVal.replace(",", "").trim());
+                txtK.setStyle(k > 0 ? "" : "-fx-text-fill: red;");
+            } catch (NumberFormatException e) {
+                txtK.setStyle("-fx-text-fill: red;");
+            }
+        });
+        txtK.disableProperty().bind(ordenando.or(chkTopK.selectedProperty().not()));
+        HBox panelTopK = new HBox(5, chkTopK, txtK);
+        panelTopK.setAlignment(Pos.CENTER_LEFT);
+        
+        // Flujo: cada bloque se ordena apenas se genera, comparado con generar, copiar y ordenar
+        CheckBox chkFlujo = new CheckBox("Ordenar en flujo mientras se genera");
+        chkFlujo.setSelected(modoFlujo);
+        chkFlujo.selectedProperty().addListener((obs, oldVal, newVal) -> modoFlujo = newVal);
+        chkFlujo.disableProperty().bind(ordenando);
+        
+        // Tendencia de las corridas anteriores con esta configuración, sin volver a ejecutar nada
+        Button btnHistorial = new Button("📜 Historial");
+        btnHistorial.setOnAction(e -> mostrarHistorial());
+        btnHistorial.disableProperty().bind(ordenando);
+        
+        VBox panelOpciones = new VBox(5, chkEscalabilidad, chkVerificacionLigera, chkSecuencial, panelTopK, chkFlujo);
+        HBox panelBoton = new HBox(15, btnIniciar, btnHistorial, panelOpciones);
+        panelBoton.setAlignment(Pos.CENTER);
+        
+        panel.getChildren().addAll(titulo, panelTamaño, panelUmbral, panelAlgoritmo, panelEstrategia, panelDatos, panelBoton);
+        return panel;
+    }
+    
+    private HBox crearPanelCentral() {
+        HBox panel = new HBox(20);
+        panel.setAlignment(Pos.CENTER);
+        
+        // Panel izquierdo: Gráfica
+        panelGrafica = new VBox(10);
+        panelGrafica.setAlignment(Pos.CENTER);
+        panelGrafica.setPrefWidth(450);
+        
+        lblGrafica = new Label("⏱️ Comparativa de Tiempos (ms)");
+        lblGrafica.setFont(Font.font("System", FontWeight.BOLD, 16));
+        
+        CategoryAxis xAxis = new CategoryAxis();
+        NumberAxis yAxis = new NumberAxis();
+        
+        graficaTiempos = new BarChart<>(xAxis, yAxis);
+        graficaTiempos.setTitle("");
+        xAxis.setLabel("Algoritmo");
+        yAxis.setLabel("Tiempo (ms)");
+        graficaTiempos.setLegendVisible(false);
+        graficaTiempos.setAnimated(false);
+        
+        XYChart.Series<String, Number> series = new XYChart.Series<>();
+        series.getData().add(new XYChart.Data<>("Paralelo", 0));
+        series.getData().add(new XYChart.Data<>("Secuencial", 0));
+        
+        graficaTiempos.getData().add(series);
+        
+        // Estadísticas del ForkJoinPool capturadas durante la corrida
+        lblEstadisticasPool = new Label("🧵 Robos: - | Hilos activos (máx): - | Tareas en cola (máx): -");
+        lblEstadisticasPool.setFont(Font.font("System", 13));
+        
+        panelGrafica.getChildren().addAll(lblGrafica, graficaTiempos, lblEstadisticasPool);
+        
+        // Gráficas del estudio de escalabilidad; reemplazan a graficaTiempos cuando se usan
+        graficaSpeedup = crearGraficaNucleos("Speedup");
+        graficaEficiencia = crearGraficaNucleos("Eficiencia");
+        panelEscalabilidad = new VBox(5, graficaSpeedup, graficaEficiencia);
+        
+        // Tendencia de las corridas guardadas con la configuración actual
+        NumberAxis ejeCorrida = new NumberAxis();
+        NumberAxis ejeMs = new NumberAxis();
+        ejeCorrida.setLabel("Corrida");
+        ejeMs.setLabel("ms");
+        graficaHistorial = new LineChart<>(ejeCorrida, ejeMs);
+        graficaHistorial.setAnimated(false);
+        graficaHistorial.setCreateSymbols(false);
+        
+        // Panel derecho: Progreso y consola
+        VBox panelProgreso = new VBox(15);
+        panelProgreso.setAlignment(Pos.TOP_CENTER);
+        panelProgreso.setPrefWidth(400);
+        
+        Label lblParalelo = new Label("🔄 Proceso Paralelo");
+        lblParalelo.setFont(Font.font("System", FontWeight.BOLD, 14));
+        
+        barraProgresoParalelo = new ProgressBar(0);
+        barraProgresoParalelo.setPrefWidth(380);
+        barraProgresoParalelo.setPrefHeight(25);
+        barraProgresoParalelo.progressProperty().bind(progresoParalelo);
+        barraProgresoParalelo.setStyle("-fx-accent: #1E88E5;");
+        
+        Label lblSecuencial = new Label("🔄 Proceso Secuencial");
+        lblSecuencial.setFont(Font.font("System", FontWeight.BOLD, 14));
+        
+        barraProgresoSecuencial = new ProgressBar(0);
+        barraProgresoSecuencial.setPrefWidth(380);
+        barraProgresoSecuencial.setPrefHeight(25);
+        barraProgresoSecuencial.progressProperty().bind(progresoSecuencial);
+        barraProgresoSecuencial.setStyle("-fx-accent: #FFA000;");
+        
+        // Etiqueta que muestra el estado actual
+        Label lblEstado = new Label();
+        lblEstado.setFont(Font.font("System", FontWeight.BOLD, 14));
+        lblEstado.textProperty().bind(estadoActual);
+        
+        TextArea areaConsola = new TextArea();
+        areaConsola.setPrefHeight(300);
+        areaConsola.setEditable(false);
+        areaConsola.setFont(Font.font("Monospaced", 12));
+        consola = new ConsolaAsincrona(areaConsola, estadoActual);
+        
+        panelProgreso.getChildren().addAll(lblParalelo, barraProgresoParalelo, 
+                                          lblSecuencial, barraProgresoSecuencial, 
+                                          lblEstado, areaConsola);
+        
+        panel.getChildren().addAll(panelGrafica, panelProgreso);
+        return panel;
+    }
+    
+    private LineChart<Number, Number> crearGraficaNucleos(String etiquetaY) {
+        NumberAxis ejeNucleos = new NumberAxis();
+        NumberAxis ejeValor = new NumberAxis();
+        ejeNucleos.setLabel("Núcleos");
+        ejeValor.setLabel(etiquetaY);
+        
+        LineChart<Number, Number> grafica = new LineChart<>(ejeNucleos, ejeValor);
+        grafica.setAnimated(false);
+        grafica.setPrefHeight(220);
+        return grafica;
+    }
+    
+    // Muestra en el panel de la gráfica el estudio de escalabilidad o la comparativa de tiempos
+    private void mostrarGrafica(boolean escalabilidad) {
+        mostrarVista(escalabilidad ? panelEscalabilidad : graficaTiempos,
+                     escalabilidad ? "📈 Escalabilidad por núcleos" : "⏱️ Comparativa de Tiempos (ms)");
+    }
+    
+    // La vista ocupa el lugar de la gráfica, justo debajo de su título
+    private void mostrarVista(Node vista, String titulo) {
+        int indice = panelGrafica.getChildren().indexOf(lblGrafica) + 1;
+        if (panelGrafica.getChildren().get(indice) != vista) {
+            panelGrafica.getChildren().set(indice, vista);
+        }
+        lblGrafica.setText(titulo);
+    }
+    
+    // Tiempos de las últimas corridas guardadas con la configuración actual, de la más vieja a la más nueva
+    private void mostrarHistorial() {
+        HistorialCorridas.Corrida referencia = corridaActual(0, -1, true);
+        List<HistorialCorridas.Corrida> corridas = historial.comparables(referencia, CORRIDAS_EN_TENDENCIA);
+        
+        XYChart.Series<Number, Number> paralelo = new XYChart.Series<>();
+        XYChart.Series<Number, Number> secuencial = new XYChart.Series<>();
+        paralelo.setName("Paralelo");
+        secuencial.setName("Secuencial");
+        for (int i = 0; i < corridas.size(); i++) {
+            HistorialCorridas.Corrida corrida = corridas.get(i);
+            paralelo.getData().add(new XYChart.Data<>(i + 1, corrida.msParalelo));
+            if (corrida.msSecuencial >= 0) {
+                secuencial.getData().add(new XYChart.Data<>(i + 1, corrida.msSecuencial));
+            }
+        }
+        graficaHistorial.getData().setAll(List.of(paralelo, secuencial));
+        mostrarVista(graficaHistorial, String.format("📜 Historial: %s, %s elementos %s (%d corridas)",
+                     referencia.algoritmo, NumberFormat.getNumberInstance(Locale.US).format(tamañoArreglo),
+                     distribucion, corridas.size()));
+    }
+    
+    // La configuración actual como corrida del historial; umbral 0 si es automático
+    private HistorialCorridas.Corrida corridaActual(long msParalelo, long msSecuencial, boolean correcta) {
+        return new HistorialCorridas.Corrida(System.currentTimeMillis(), tamañoArreglo, distribucion.name(),
+                                             Runtime.getRuntime().availableProcessors(),
+                                             umbralAutomatico ? MergeSortParalelo.UMBRAL_AUTOMATICO : umbral,
+                                             describirAlgoritmo(), msParalelo, msSecuencial, correcta);
+    }
+    
+    private void graficarEscalabilidad(long[] tiempos, double fraccionSerial) {
+        XYChart.Series<Number, Number> medido = new XYChart.Series<>();
+        XYChart.Series<Number, Number> ideal = new XYChart.Series<>();
+        XYChart.Series<Number, Number> amdahl = new XYChart.Series<>();
+        XYChart.Series<Number, Number> eficiencia = new XYChart.Series<>();
+        medido.setName("Medido");
+        ideal.setName("Ideal");
+        amdahl.setName(String.format("Amdahl (serial %.1f%%)", fraccionSerial * 100));
+        eficiencia.setName("Eficiencia");
+        
+        for (int p = 1; p <= tiempos.length; p++) {
+            medido.getData().add(new XYChart.Data<>(p, EstudioEscalabilidad.speedup(tiempos, p)));
+            ideal.getData().add(new XYChart.Data<>(p, p));
+            amdahl.getData().add(new XYChart.Data<>(p, EstudioEscalabilidad.speedupAmdahl(fraccionSerial, p)));
+            eficiencia.getData().add(new XYChart.Data<>(p, EstudioEscalabilidad.eficiencia(tiempos, p)));
+        }
+        
+        graficaSpeedup.getData().setAll(List.of(medido, ideal, amdahl));
+        graficaEficiencia.getData().setAll(List.of(eficiencia));
+    }
+    
+    // Tarea fork-join del algoritmo paralelo elegido; metricas puede ser null
+    private RecursiveAction crearTareaParalela(int[] arreglo, int umbral, MetricasOrdenamiento metricas) {
+        switch (algoritmoParalelo) {
+            case SAMPLE_SORT:
+                return new SampleSortParalelo(arreglo, 0, arreglo.length, umbral).conMetricas(metricas);
+            case RADIX_SORT:
+                return new RadixSortParalelo(arreglo, 0, arreglo.length, umbral);
+            case MERGE_SORT:
+            default:
+                return new MergeSortParalelo(arreglo, 0, arreglo.length, umbral, estrategiaMerge, umbralMerge())
+                        .conMetricas(metricas)
+                        .conModoAdaptativo(modoAdaptativo)
+                        .conEstrategiaHoja(hojasEnBloques ? MergeSortParalelo.EstrategiaHoja.BLOQUES_CACHE
+                                                          : MergeSortParalelo.EstrategiaHoja.ARRAYS_SORT);
+        }
+    }
+    
+    private int umbralMerge() {
+        return mergeParalelo ? MergeSortParalelo.UMBRAL_MERGE_POR_DEFECTO : MergeSortParalelo.SIN_MERGE_PARALELO;
+    }
+    
+    private String describirAlgoritmo() {
+        if (algoritmoParalelo == AlgoritmoParalelo.MERGE_SORT) {
+            return "merge sort, merge: " + estrategiaMerge + (mergeParalelo ? ", paralelo" : ", secuencial")
+                    + (modoAdaptativo ? ", adaptativo" : "")
+                    + (hojasEnBloques ? ", hojas por bloques" : "");
+        }
+        return algoritmoParalelo.toString();
+    }
+    
+    // Pool con el paralelismo pedido; se crea la primera vez y se reutiliza en las siguientes corridas
+    private ForkJoinPool poolPara(int paralelismo) {
+        return pools.computeIfAbsent(paralelismo, ForkJoinPool::new);
+    }
+    
+    @Override
+    public void stop() {
+        pools.values().forEach(ForkJoinPool::shutdownNow);
+        consola.detener();
+    }
+    
+    private VBox crearPanelInferior() {
+        VBox panel = new VBox(15);
+        panel.setPadding(new Insets(20, 0, 0, 0));
+        panel.setAlignment(Pos.CENTER);
+        
+        lblResultado = new Label("✅ Esperando resultados...");
+        lblResultado.setFont(Font.font("System", FontWeight.BOLD, 16));
+        
+        HBox infoPanel = new HBox(40);
+        infoPanel.setAlignment(Pos.CENTER);
+        
+        // Información del sistema
+        VBox sysInfo = new VBox(5);
+        sysInfo.setAlignment(Pos.CENTER);
+        
+        Label lblCores = new Label("🧠 Núcleos disponibles: " + Runtime.getRuntime().availableProcessors());
+        lblCores.setFont(Font.font("System", 14));
+        
+        Label lblMem = new Label("💾 Memoria disponible: " + 
+                          (Runtime.getRuntime().maxMemory() / (1024 * 1024)) + " MB");
+        lblMem.setFont(Font.font("System", 14));
+        
+        sysInfo.getChildren().addAll(lblCores, lblMem);
+        
+        infoPanel.getChildren().add(sysInfo);
+        panel.getChildren().addAll(lblResultado, infoPanel);
+        
+        return panel;
+    }
+    
+    private void iniciarOrdenamiento() {
+        ordenando.set(true);
+        progresoParalelo.set(0);
+        progresoSecuencial.set(0);
+        consola.limpiar();
+        
+        // Crear tarea para ejecutar en segundo plano
+        Task<Void> tareaOrdenamiento = new Task<Void>() {
+            @Override
+            protected Void call() throws Exception {
+                long semillaUsada = semilla != null ? semilla : ThreadLocalRandom.current().nextLong();
+                if (modoFlujo) {
+                    ejecutarFlujo(semillaUsada);
+                    return null;
+                }
+                
+                MedidorMemoria medidor = new MedidorMemoria();
+                try {
+                    ejecutarComparativa(medidor, semillaUsada);
+                } finally {
+                    // Si una fase falla a la mitad, el medidor no queda registrado en el listener de GC
+                    medidor.cancelar();
+                }
+                return null;
+            }
+            
+            private void ejecutarComparativa(MedidorMemoria medidor, long semillaUsada) {
+                // Paso 1: Generar datos
+                medidor.iniciarFase();
+                updateProgress("🔄 Generando arreglo " + distribucion + " de " + NumberFormat.getNumberInstance(Locale.US).format(tamañoArreglo) +
+                               " elementos (semilla " + semillaUsada + ")...");
+                EventoFase eventoGeneracion = new EventoFase(EventoFase.GENERACION, tamañoArreglo);
+                eventoGeneracion.begin();
+                // Los arreglos son locales de la corrida: al terminar no queda ninguno vivo hasta la siguiente
+                int[] datosOriginales = GeneradorDatos.generar(tamañoArreglo, distribucion, semillaUsada);
+                eventoGeneracion.commit();
+                updateProgress(medidor.terminarFase(EventoFase.GENERACION).toString());
+                
+                updateProgress("✅ Arreglo generado correctamente!");
+                updateProgress("📊 Muestra de datos originales:");
+                imprimirResumen(datosOriginales);
+                
+                if (estudioEscalabilidad) {
+                    ejecutarEstudio(datosOriginales);
+                    return;
+                }
+                if (seleccionTopK) {
+                    ejecutarTopK(datosOriginales);
+                    return;
+                }
+                Platform.runLater(() -> mostrarGrafica(false));
+                
+                ForkJoinPool pool = poolPara(Runtime.getRuntime().availableProcessors());
+                
+                // Paso 2: Crear copias para cada algoritmo
+                updateProgress("🔄 Preparando arreglos para ordenamiento...");
+                medidor.iniciarFase();
+                EventoFase eventoCopia = new EventoFase(EventoFase.COPIA, tamañoArreglo);
+                eventoCopia.begin();
+                VerificacionOrdenamiento.Huella huellaEntrada = null;
+                int[] arregloParalelo, arregloSecuencial;
+                if (verificacionLigera) {
+                    // El paralelo ordena la entrada en su lugar; solo queda su huella para verificar
+                    huellaEntrada = VerificacionOrdenamiento.huella(datosOriginales, pool);
+                    arregloParalelo = datosOriginales;
+                    arregloSecuencial = ordenamientoSecuencial ? Arrays.copyOf(datosOriginales, datosOriginales.length) : null;
+                    datosOriginales = null;
+                } else {
+                    arregloParalelo = Arrays.copyOf(datosOriginales, datosOriginales.length);
+                    arregloSecuencial = ordenamientoSecuencial ? Arrays.copyOf(datosOriginales, datosOriginales.length) : null;
+                }
+                eventoCopia.commit();
+                updateProgress(medidor.terminarFase(EventoFase.COPIA).toString());
+                updateProgress("✅ Preparación completada!");
+                
+                // Paso 3: Ejecutar ordenamiento paralelo
+                int umbralUsado = umbral;
+                if (umbralAutomatico) {
+                    int paralelismo = pool.getParallelism();
+                    if (!AjusteUmbral.estaCalibrado(tamañoArreglo, paralelismo, estrategiaMerge, umbralMerge())) {
+                        updateProgress("\n🎯 Calibrando umbral para " + paralelismo + " núcleos...");
+                        AjusteUmbral.calibrar(pool, tamañoArreglo, estrategiaMerge, umbralMerge());
+                    }
+                    umbralUsado = AjusteUmbral.umbralPara(tamañoArreglo, paralelismo, estrategiaMerge, umbralMerge());
+                    String textoUmbral = NumberFormat.getNumberInstance(Locale.US).format(umbralUsado) + " (auto)";
+                    Platform.runLater(() -> txtUmbral.setText(textoUmbral));
+                    updateProgress("🎯 Umbral automático: " + textoUmbral);
+                }
+                
+                updateProgress("\n🚀 Iniciando ordenamiento PARALELO (" + describirAlgoritmo() + ")...");
+                MetricasOrdenamiento metricas = new MetricasOrdenamiento();
+                // Los robos se leen antes de invocar: el muestreo puede arrancar con la tarea ya en marcha
+                long robosPrevios = pool.getStealCount();
+                Platform.runLater(() -> iniciarMuestreo(pool, metricas, robosPrevios));
+                
+                RecursiveAction tarea = crearTareaParalela(arregloParalelo, umbralUsado, metricas);
+                medidor.iniciarFase();
+                EventoFase eventoParalelo = new EventoFase(EventoFase.ORDENAMIENTO_PARALELO, tamañoArreglo);
+                eventoParalelo.begin();
+                long inicioParalelo = System.nanoTime();
+                pool.invoke(tarea);
+                long finParalelo = System.nanoTime();
+                eventoParalelo.commit();
+                
+                tiempoParalelo = (finParalelo - inicioParalelo) / 1_000_000;
+                Platform.runLater(() -> detenerMuestreo(pool, metricas));
+                updateProgress("✅ Ordenamiento paralelo completado en " + tiempoParalelo + " ms");
+                updateProgress(medidor.terminarFase(EventoFase.ORDENAMIENTO_PARALELO).toString());
+                updateProgress(String.format("   Hojas: %,d elementos en %,d ms | Merges: %,d elementos en %,d ms (tiempo sumado de los hilos)",
+                               metricas.elementosEnHojas(), metricas.nanosEnHojas() / 1_000_000,
+                               metricas.elementosMezclados(), metricas.nanosEnMerges() / 1_000_000));
+                
+                // Paso 4: Ejecutar ordenamiento secuencial
+                tiempoSecuencial = 0;
+                if (ordenamientoSecuencial) {
+                    updateProgress("\n🔄 Iniciando ordenamiento SECUENCIAL...");
+                    // Arrays.sort no expone su avance: la barra queda indeterminada mientras ordena
+                    Platform.runLater(() -> progresoSecuencial.set(ProgressBar.INDETERMINATE_PROGRESS));
+                    
+                    medidor.iniciarFase();
+                    EventoFase eventoSecuencial = new EventoFase(EventoFase.ORDENAMIENTO_SECUENCIAL, tamañoArreglo);
+                    eventoSecuencial.begin();
+                    long inicioSecuencial = System.nanoTime();
+                    Arrays.sort(arregloSecuencial);
+                    long finSecuencial = System.nanoTime();
+                    eventoSecuencial.commit();
+                    
+                    tiempoSecuencial = (finSecuencial - inicioSecuencial) / 1_000_000;
+                    Platform.runLater(() -> progresoSecuencial.set(1.0));
+                    updateProgress("✅ Ordenamiento secuencial completado en " + tiempoSecuencial + " ms");
+                    updateProgress(medidor.terminarFase(EventoFase.ORDENAMIENTO_SECUENCIAL).toString());
+                }
+                
+                // Paso 5: Verificar resultados
+                medidor.iniciarFase();
+                EventoFase eventoVerificacion = new EventoFase(EventoFase.VERIFICACION, tamañoArreglo);
+                eventoVerificacion.begin();
+                boolean resultadosIguales;
+                if (!verificacionLigera && arregloSecuencial != null) {
+                    resultadosIguales = Arrays.equals(arregloParalelo, arregloSecuencial);
+                } else {
+                    if (huellaEntrada == null) {
+                        huellaEntrada = VerificacionOrdenamiento.huella(datosOriginales, pool);
+                    }
+                    resultadosIguales = VerificacionOrdenamiento.estaOrdenado(arregloParalelo, pool)
+                            && VerificacionOrdenamiento.huella(arregloParalelo, pool).equals(huellaEntrada);
+                    updateProgress("\n🔎 Verificación por orden + huella " + huellaEntrada);
+                }
+                eventoVerificacion.commit();
+                updateProgress(medidor.terminarFase(EventoFase.VERIFICACION).toString());
+                
+                updateProgress("\n📊 Muestra de datos ordenados:");
+                imprimirResumen(arregloParalelo);
+                
+                // Paso 6: Actualizar UI con resultados finales
+                Platform.runLater(() -> {
+                    XYChart.Series<String, Number> nuevaSerie = new XYChart.Series<>();
+                    nuevaSerie.getData().add(new XYChart.Data<>("Paralelo", tiempoParalelo));
+                    if (ordenamientoSecuencial) {
+                        nuevaSerie.getData().add(new XYChart.Data<>("Secuencial", tiempoSecuencial));
+                    }
+                    
+                    graficaTiempos.getData().clear();
+                    graficaTiempos.getData().add(nuevaSerie);
+                    
+                    // Aplicar colores diferentes a las barras
+                    nuevaSerie.getData().get(0).getNode().setStyle("-fx-bar-fill: #1E88E5;");
+                    if (ordenamientoSecuencial) {
+                        nuevaSerie.getData().get(1).getNode().setStyle("-fx-bar-fill: #FFA000;");
+                    }
+                    
+                    // Mostrar resultado de la comparación
+                    if (resultadosIguales && !ordenamientoSecuencial) {
+                        lblResultado.setText("✅ Resultado verificado; paralelo en " + tiempoParalelo + " ms");
+                        lblResultado.setTextFill(Color.GREEN);
+                    } else if (resultadosIguales) {
+                        if (tiempoParalelo < tiempoSecuencial) {
+                            long diferencia = tiempoSecuencial - tiempoParalelo;
+                            double speedup = (double) tiempoSecuencial / tiempoParalelo;
+                            lblResultado.setText(String.format("✅ Paralelo fue más rápido por %d ms (%.2fx más rápido)", 
+                                                          diferencia, speedup));
+                            lblResultado.setTextFill(Color.GREEN);
+                        } else {
+                            long diferencia = tiempoParalelo - tiempoSecuencial;
+                            lblResultado.setText("❓ Secuencial fue más rápido por " + diferencia + " ms");
+                            lblResultado.setTextFill(Color.ORANGE);
+                        }
+                    } else {
+                        lblResultado.setText("❌ ERROR: Los resultados no coinciden!");
+                        lblResultado.setTextFill(Color.RED);
+                    }
+                });
+                
+                historial.agregar(corridaActual(tiempoParalelo, ordenamientoSecuencial ? tiempoSecuencial : -1,
+                                                resultadosIguales));
+                
+                updateProgress("\n✅ Prueba completada! Los resultados son " + 
+                               (resultadosIguales ? "correctos ✓" : "incorrectos ✗"));
+                
+                updateProgress("\n⚡ Datos de rendimiento:");
+                updateProgress("⏱ Tiempo de ejecución paralelo:   " + tiempoParalelo + " ms");
+                if (ordenamientoSecuencial) {
+                    updateProgress("⏱ Tiempo de ejecución secuencial: " + tiempoSecuencial + " ms");
+                }
+                
+                if (ordenamientoSecuencial && tiempoParalelo < tiempoSecuencial) {
+                    double speedup = (double) tiempoSecuencial / tiempoParalelo;
+                    updateProgress(String.format("📈 Aceleración (speedup): %.2fx", speedup));
+                }
+            }
+            
+            // Ordena la misma entrada con 1..N núcleos, reutilizando un único arreglo de trabajo
+            private void ejecutarEstudio(int[] datosOriginales) {
+                int nucleos = Runtime.getRuntime().availableProcessors();
+                int umbralEstudio = umbralAutomatico ? MergeSortParalelo.UMBRAL_AUTOMATICO : umbral;
+                int[] trabajo = new int[datosOriginales.length];
+                long[] tiempos = new long[nucleos];
+                
+                updateProgress("\n📈 Estudio de escalabilidad con 1.." + nucleos + " núcleos (mejor de " +
+                               REPETICIONES_ESTUDIO + ", tras un calentamiento)");
+                for (int p = 0; p <= nucleos; p++) {
+                    // p = 0 es el calentamiento del JIT con todos los núcleos; no se registra
+                    ForkJoinPool pool = poolPara(p == 0 ? nucleos : p);
+                    long mejor = Long.MAX_VALUE;
+                    for (int r = 0; r < (p == 0 ? 1 : REPETICIONES_ESTUDIO); r++) {
+                        System.arraycopy(datosOriginales, 0, trabajo, 0, trabajo.length);
+                        long inicio = System.nanoTime();
+                        pool.invoke(crearTareaParalela(trabajo, umbralEstudio, null));
+                        mejor = Math.min(mejor, System.nanoTime() - inicio);
+                    }
+                    if (p == 0) continue;
+                    
+                    tiempos[p - 1] = mejor;
+                    double progreso = (double) p / nucleos;
+                    Platform.runLater(() -> progresoParalelo.set(progreso));
+                    updateProgress(String.format("   %2d núcleos: %,8d ms | speedup %.2fx | eficiencia %.0f%%",
+                                   p, mejor / 1_000_000, EstudioEscalabilidad.speedup(tiempos, p),
+                                   EstudioEscalabilidad.eficiencia(tiempos, p) * 100));
+                }
+                
+                double fraccionSerial = EstudioEscalabilidad.fraccionSerial(tiempos);
+                updateProgress(String.format("\n📐 Ajuste de Amdahl: fracción serial %.1f%% → speedup máximo %.1fx",
+                               fraccionSerial * 100, fraccionSerial > 0 ? 1 / fraccionSerial : Double.POSITIVE_INFINITY));
+                Platform.runLater(() -> {
+                    mostrarGrafica(true);
+                    graficarEscalabilidad(tiempos, fraccionSerial);
+                    lblResultado.setText(String.format("📈 Speedup con %d núcleos: %.2fx (eficiencia %.0f%%)", nucleos,
+                                         EstudioEscalabilidad.speedup(tiempos, nucleos),
+                                         EstudioEscalabilidad.eficiencia(tiempos, nucleos) * 100));
+                    lblResultado.setTextFill(Color.valueOf("#2a4d69"));
+                });
+            }
+            
+            // La misma entrada con la tubería por fases y en flujo; el generador entrega los bloques en
+            // orden desde este hilo, así ambas reciben la entrada al mismo ritmo. Tras calentar ambas
+            // se alterna cuál va primero y se queda el mejor tiempo de cada una, como en el estudio.
+            private void ejecutarFlujo(long semillaUsada) throws IOException {
+                ForkJoinPool pool = poolPara(Runtime.getRuntime().availableProcessors());
+                int umbralFlujo = umbralAutomatico ? MergeSortParalelo.UMBRAL_AUTOMATICO : umbral;
+                OrdenamientoEnFlujo ordenamiento = new OrdenamientoEnFlujo(pool,
+                        OrdenamientoEnFlujo.ELEMENTOS_POR_BLOQUE_POR_DEFECTO, umbralFlujo);
+                Platform.runLater(() -> mostrarGrafica(false));
+                
+                int tamañoCalentamiento = Math.min(tamañoArreglo, 1 << 20);
+                updateProgress("🔥 Calentando ambas tuberías con " +
+                               NumberFormat.getNumberInstance(Locale.US).format(tamañoCalentamiento) + " elementos...");
+                ordenamiento.ordenarPorFases(OrdenamientoEnFlujo.generador(tamañoCalentamiento, distribucion, semillaUsada));
+                ordenamiento.ordenar(OrdenamientoEnFlujo.generador(tamañoCalentamiento, distribucion, semillaUsada));
+                
+                updateProgress("\n🔄 Por fases: generar " + NumberFormat.getNumberInstance(Locale.US).format(tamañoArreglo) +
+                               " elementos " + distribucion + " (semilla " + semillaUsada + "), copiar y ordenar");
+                updateProgress("🌊 En flujo: cada bloque de " +
+                               NumberFormat.getNumberInstance(Locale.US).format(OrdenamientoEnFlujo.ELEMENTOS_POR_BLOQUE_POR_DEFECTO) +
+                               " se ordena apenas llega (mejor de " + REPETICIONES_ESTUDIO + ", alternando el orden)");
+                long nanosFases = Long.MAX_VALUE, nanosFlujo = Long.MAX_VALUE;
+                double solapamiento = 0;
+                boolean correcto = true;
+                OrdenamientoEnFlujo.Resultado fases = null, flujo = null;
+                for (int r = 0; r < REPETICIONES_ESTUDIO; r++) {
+                    for (int paso = 0; paso < 2; paso++) {
+                        // Cada resultado anterior se suelta antes de volver a ordenar: a lo sumo dos en memoria
+                        if ((paso == 0) == (r % 2 == 0)) {
+                            fases = null;
+                            fases = ordenamiento.ordenarPorFases(
+                                    OrdenamientoEnFlujo.generador(tamañoArreglo, distribucion, semillaUsada));
+                            nanosFases = Math.min(nanosFases, fases.nanosResultado);
+                            updateProgress("   Por fases: " + fases);
+                        } else {
+                            flujo = null;
+                            flujo = ordenamiento.ordenar(
+                                    OrdenamientoEnFlujo.generador(tamañoArreglo, distribucion, semillaUsada));
+                            if (flujo.nanosResultado < nanosFlujo) {
+                                nanosFlujo = flujo.nanosResultado;
+                                solapamiento = flujo.solapamiento();
+                            }
+                            updateProgress("   En flujo:  " + flujo);
+                        }
+                    }
+                    correcto &= Arrays.equals(fases.ordenado, flujo.ordenado);
+                    double progreso = (double) (r + 1) / REPETICIONES_ESTUDIO;
+                    Platform.runLater(() -> {
+                        progresoSecuencial.set(progreso);
+                        progresoParalelo.set(progreso);
+                    });
+                }
+                
+                boolean coinciden = correcto;
+                updateProgress(coinciden ? "✅ Ambos resultados coinciden" : "❌ ERROR: Los resultados no coinciden!");
+                long msFases = nanosFases / 1_000_000, msFlujo = nanosFlujo / 1_000_000;
+                double speedup = (double) nanosFases / Math.max(1, nanosFlujo);
+                updateProgress(String.format("📈 Tiempo hasta el resultado: %d ms por fases, %d ms en flujo (%.2fx); " +
+                                             "%.0f%% del trabajo se solapó con la generación", msFases, msFlujo, speedup,
+                                             solapamiento * 100));
+                Platform.runLater(() -> {
+                    if (coinciden) {
+                        lblResultado.setText(String.format("🌊 En flujo: resultado en %d ms (por fases: %d ms, %.2fx)",
+                                             msFlujo, msFases, speedup));
+                        lblResultado.setTextFill(Color.GREEN);
+                    } else {
+                        lblResultado.setText("❌ ERROR: Los resultados no coinciden!");
+                        lblResultado.setTextFill(Color.RED);
+                    }
+                });
+            }
+            
+            // Los k menores por selección paralela contra ordenar una copia completa y cortar
+            private void ejecutarTopK(int[] datosOriginales) {
+                ForkJoinPool pool = poolPara(Runtime.getRuntime().availableProcessors());
+                int umbralTopK = umbralAutomatico ? MergeSortParalelo.UMBRAL_AUTOMATICO : umbral;
+                int kUsado = Math.max(1, Math.min(k, datosOriginales.length));
+                String textoK = NumberFormat.getNumberInstance(Locale.US).format(kUsado);
+                Platform.runLater(() -> mostrarGrafica(false));
+                
+                updateProgress("\n🔎 Seleccionando los " + textoK + " menores en paralelo...");
+                long inicio = System.nanoTime();
+                int[] seleccion = SeleccionParalela.menores(datosOriginales, kUsado, umbralTopK, pool);
+                long tiempoSeleccion = (System.nanoTime() - inicio) / 1_000_000;
+                Platform.runLater(() -> progresoParalelo.set(1.0));
+                updateProgress("✅ Selección completada en " + tiempoSeleccion + " ms");
+                
+                updateProgress("\n🔄 Ordenando una copia completa en paralelo para cortar los primeros " + textoK + "...");
+                int[] copia = Arrays.copyOf(datosOriginales, datosOriginales.length);
+                inicio = System.nanoTime();
+                pool.invoke(crearTareaParalela(copia, umbralTopK, null));
+                int[] cortados = Arrays.copyOf(copia, kUsado);
+                long tiempoOrdenarYCortar = (System.nanoTime() - inicio) / 1_000_000;
+                Platform.runLater(() -> progresoSecuencial.set(1.0));
+                updateProgress("✅ Ordenar y cortar completado en " + tiempoOrdenarYCortar + " ms");
+                
+                boolean correcto = Arrays.equals(seleccion, cortados);
+                updateProgress(correcto ? "✅ Los " + textoK + " menores coinciden" : "❌ ERROR: Los k menores no coinciden!");
+                updateProgress("📊 k-ésimo menor: " + seleccion[kUsado - 1]);
+                double speedup = (double) tiempoOrdenarYCortar / Math.max(1, tiempoSeleccion);
+                updateProgress(String.format("📈 Selección contra ordenar y cortar: %.2fx", speedup));
+                Platform.runLater(() -> {
+                    if (correcto) {
+                        lblResultado.setText(String.format("✅ Top-%s en %d ms (ordenar y cortar: %d ms, %.2fx)",
+                                             textoK, tiempoSeleccion, tiempoOrdenarYCortar, speedup));
+                        lblResultado.setTextFill(Color.GREEN);
+                    } else {
+                        lblResultado.setText("❌ ERROR: Los k menores no coinciden!");
+                        lblResultado.setTextFill(Color.RED);
+                    }
+                });
+            }
+            
+            private void updateProgress(String mensaje) {
+                consola.escribirEstado(mensaje);
+            }
+        };
+        
+        // Cuando la tarea termine, actualizar el estado UI
+        tareaOrdenamiento.setOnSucceeded(e -> ordenando.set(false));
+        tareaOrdenamiento.setOnFailed(e -> {
+            ordenando.set(false);
+            if (muestreo != null) muestreo.stop();
+            Throwable exc = tareaOrdenamiento.getException();
+            consola.escribir("\n❌ ERROR: " + exc.getMessage());
+            exc.printStackTrace();
+        });
+        
+        // Iniciar la tarea en un hilo separado
+        Thread hiloTarea = new Thread(tareaOrdenamiento);
+        hiloTarea.setDaemon(true);
+        hiloTarea.start();
+    }
+    
+    // Muestrea cada 100 ms el avance y el estado del pool; corre en el hilo de la UI
+    private void iniciarMuestreo(ForkJoinPool pool, MetricasOrdenamiento metricas, long robosPrevios) {
+        maxHilosActivos = 0;
+        maxTareasEnCola = 0;
+        robosAlInicio = robosPrevios;
+        muestreo = new Timeline(new KeyFrame(Duration.millis(100), e -> muestrear(pool, metricas)));
+        muestreo.setCycleCount(Animation.INDEFINITE);
+        muestreo.play();
+    }
+    
+    private void detenerMuestreo(ForkJoinPool pool, MetricasOrdenamiento metricas) {
+        muestreo.stop();
+        muestrear(pool, metricas);
+        progresoParalelo.set(1.0);
+    }
+    
+    private void muestrear(ForkJoinPool pool, MetricasOrdenamiento metricas) {
+        progresoParalelo.set(metricas.progreso());
+        maxHilosActivos = Math.max(maxHilosActivos, pool.getActiveThreadCount());
+        maxTareasEnCola = Math.max(maxTareasEnCola, pool.getQueuedTaskCount());
+        lblEstadisticasPool.setText(String.format("🧵 Robos: %,d | Hilos activos (máx): %d/%d | Tareas en cola (máx): %,d",
+                                                  pool.getStealCount() - robosAlInicio, maxHilosActivos, pool.getParallelism(),
+                                                  maxTareasEnCola));
+    }
+    
+    // Desde cualquier hilo: la consola agrega el texto en su próximo cuadro
+    public void imprimirResumen(int[] arreglo) {
+        StringBuilder sb = new StringBuilder();
+        int mostrar = 10;
+        
+        sb.append("Inicio: ");
+        for (int i = 0; i < mostrar && i < arreglo.length; i++) {
+            sb.append(arreglo[i]).append(" ");
+        }
+        
+        sb.append("\nFin:    ");
+        for (int i = Math.max(0, arreglo.length - mostrar); i < arreglo.length; i++) {
+            sb.append(arreglo[i]).append(" ");
+        }
+        
+        consola.escribir(sb.toString());
+    }
+
+    public static int[] generarArregloAleatorio(int tamaño) {
+        return GeneradorDatos.generar(tamaño, GeneradorDatos.Distribucion.UNIFORME,
+                                      ThreadLocalRandom.current().nextLong());
+    }
+    
+    public static void main(String[] args) {
+        launch(args);
+    }
+    
+    // Clase MergeSortParalelo adaptada para la UI
+    public static class MergeSortParalelo extends RecursiveAction {
+
+        // Cómo obtiene cada merge su memoria auxiliar
+        public enum EstrategiaMerge {
+            // Un arreglo temporal nuevo por cada merge, copiado de vuelta al terminar
+            TEMPORAL_POR_MERGE,
+            // Un único buffer por ordenamiento; origen y destino se alternan en cada nivel
+            BUFFER_ALTERNADO
+        }
+
+        // Cómo se ordena cada hoja del árbol
+        public enum EstrategiaHoja {
+            // Arrays.sort sobre la hoja; sus merges usan el kernel con ramas
+            ARRAYS_SORT,
+            // OrdenamientoHoja: red de ordenamiento por grupos, merges por bloques de caché y kernels
+            // sin saltos o vectoriales, también en los merges del árbol
+            BLOQUES_CACHE
+        }
+
+        // Tamaño de mezcla por debajo del cual el merge paralelo mezcla secuencialmente
+        public static final int UMBRAL_MERGE_POR_DEFECTO = 16_384;
+        // Valor de umbralMerge que desactiva el merge paralelo
+        public static final int SIN_MERGE_PARALELO = 0;
+        // Valor de umbral que delega la elección en AjusteUmbral al empezar a ordenar
+        public static final int UMBRAL_AUTOMATICO = 0;
+
+        // Modo adaptativo: corridas descendentes de al menos este largo se invierten antes de ordenar
+        private static final int CORRIDA_DESCENDENTE_MINIMA = 32;
+        // Victorias seguidas de un lado del merge a partir de las cuales se pasa a galopar
+        private static final int GALOPE_MINIMO = 7;
+        private static final int BLOQUE_INVERSION = 1 << 16;
+
+        private int[] arreglo;
+        private int[] origen; // Solo en BUFFER_ALTERNADO: mitades ya ordenadas a mezclar en arreglo
+        private int desplazamiento; // Posición en origen menos posición en arreglo
+        private int inicio, fin;
+        private int umbral;
+        private EstrategiaMerge estrategia;
+        private int umbralMerge;
+        private MetricasOrdenamiento metricas; // null: sin instrumentación
+        private boolean raiz;
+        private boolean adaptativo;
+        private EstrategiaHoja estrategiaHoja;
+        private int ordenadoHasta; // Modo adaptativo: [inicio, ordenadoHasta) ya se sabe ascendente
+
+        public MergeSortParalelo(int[] arreglo, int inicio, int fin) {
+            this(arreglo, inicio, fin, UMBRAL_AUTOMATICO);
+        }
+
+        public MergeSortParalelo(int[] arreglo, int inicio, int fin, int umbral) {
+            this(arreglo, inicio, fin, umbral, EstrategiaMerge.BUFFER_ALTERNADO);
+        }
+
+        public MergeSortParalelo(int[] arreglo, int inicio, int fin, int umbral, EstrategiaMerge estrategia) {
+            this(arreglo, inicio, fin, umbral, estrategia, SIN_MERGE_PARALELO);
+        }
+
+        // umbralMerge > 0 reparte cada merge en sub-merges independientes de hasta ese tamaño
+        public MergeSortParalelo(int[] arreglo, int inicio, int fin, int umbral, EstrategiaMerge estrategia,
+                                 int umbralMerge) {
+            this(arreglo, null, 0, inicio, fin, umbral, estrategia, umbralMerge, null, false, EstrategiaHoja.ARRAYS_SORT,
+                 inicio);
+            this.raiz = true;
+        }
+
+        private MergeSortParalelo(int[] arreglo, int[] origen, int desplazamiento, int inicio, int fin, int umbral,
+                                  EstrategiaMerge estrategia, int umbralMerge, MetricasOrdenamiento metricas,
+                                  boolean adaptativo, EstrategiaHoja estrategiaHoja, int ordenadoHasta) {
+            this.arreglo = arreglo;
+            this.origen = origen;
+            this.desplazamiento = desplazamiento;
+            this.inicio = inicio;
+            this.fin = fin;
+            this.umbral = umbral;
+            this.estrategia = estrategia;
+            this.umbralMerge = umbralMerge;
+            this.metricas = metricas;
+            this.adaptativo = adaptativo;
+            this.estrategiaHoja = estrategiaHoja;
+            this.ordenadoHasta = ordenadoHasta;
+        }
+
+        // BUFFER_ALTERNADO sobre un buffer que ya reservó quien llama, para ordenar muchos tramos de
+        // un mismo arreglo sin reservar uno por tramo; aux[inicio, fin) debe tener los mismos datos
+        static MergeSortParalelo conBuffer(int[] arreglo, int[] aux, int inicio, int fin, int umbral,
+                                           int umbralMerge) {
+            return new MergeSortParalelo(arreglo, aux, 0, inicio, fin, umbral, EstrategiaMerge.BUFFER_ALTERNADO,
+                                         umbralMerge, null, false, EstrategiaHoja.ARRAYS_SORT, inicio);
+        }
+
+        // Registra el avance en metricas; llamar antes de invocar la tarea
+        public MergeSortParalelo conMetricas(MetricasOrdenamiento metricas) {
+            this.metricas = metricas;
+            return this;
+        }
+
+        // Modo adaptativo: aprovecha las corridas que ya trae la entrada. Los subrangos ya ordenados
+        // no se tocan, las corridas descendentes se invierten y los merges galopan cuando un lado
+        // gana muchas veces seguidas; una entrada ya ordenada cuesta un recorrido lineal.
+        public MergeSortParalelo conModoAdaptativo(boolean adaptativo) {
+            this.adaptativo = adaptativo;
+            return this;
+        }
+
+        // Estrategia de las hojas; BLOQUES_CACHE también cambia el kernel de los merges, salvo en modo
+        // adaptativo, que sigue galopando
+        public MergeSortParalelo conEstrategiaHoja(EstrategiaHoja estrategiaHoja) {
+            this.estrategiaHoja = estrategiaHoja;
+            return this;
+        }
+
+        @Override
+        protected void compute() {
+            if (umbral <= UMBRAL_AUTOMATICO) {
+                ForkJoinPool pool = getPool();
+                int paralelismo = pool != null ? pool.getParallelism() : ForkJoinPool.getCommonPoolParallelism();
+                umbral = AjusteUmbral.umbralPara(fin - inicio, paralelismo, estrategia, umbralMerge);
+            }
+
+            if (raiz && metricas != null) {
+                metricas.iniciar(fin - inicio, umbral);
+            }
+
+            if (raiz && adaptativo && prepararCorridas()) {
+                return;
+            }
+
+            if (raiz && estrategia == EstrategiaMerge.BUFFER_ALTERNADO) {
+                // Única reserva de memoria de todo el ordenamiento, del tamaño del rango: aux[0] es arreglo[inicio]
+                int[] aux = new int[fin - inicio];
+                System.arraycopy(arreglo, inicio, aux, 0, fin - inicio);
+                new MergeSortParalelo(arreglo, aux, -inicio, inicio, fin, umbral, estrategia, umbralMerge, metricas,
+                                      adaptativo, estrategiaHoja, ordenadoHasta).compute();
+                return;
+            }
+
+            if (adaptativo) {
+                // Un rango ya ordenado queda igual en ambos buffers: no hace falta ni ordenar ni mezclar
+                ordenadoHasta = finAscendente(arreglo, Math.max(inicio + 1, ordenadoHasta), fin);
+                if (ordenadoHasta >= fin) {
+                    registrarOmitido();
+                    return;
+                }
+            }
+
+            if ((fin - inicio) <= umbral) {
+                // Con buffer alternado ambos arreglos aún tienen los datos originales del rango
+                ordenarHoja();
+            } else {
+                int medio = (inicio + fin) / 2;
+                MergeSortParalelo izquierda = subtarea(inicio, medio);
+                MergeSortParalelo derecha = subtarea(medio, fin);
+                invokeAll(izquierda, derecha);
+                merge(inicio, medio, fin);
+            }
+        }
+
+        private MergeSortParalelo subtarea(int inicio, int fin) {
+            // El hijo hereda lo que este nivel ya sabe ascendente dentro de su rango
+            int ordenadoHijo = Math.max(inicio, Math.min(ordenadoHasta, fin));
+            if (origen == null) {
+                return new MergeSortParalelo(arreglo, null, 0, inicio, fin, umbral, estrategia, umbralMerge, metricas,
+                                             adaptativo, estrategiaHoja, ordenadoHijo);
+            }
+            // Los hijos dejan sus mitades ordenadas en origen para que este nivel las mezcle en arreglo;
+            // sus posiciones son las de origen
+            int d = desplazamiento;
+            return new MergeSortParalelo(origen, arreglo, -d, inicio + d, fin + d, umbral, estrategia, umbralMerge,
+                                         metricas, adaptativo, estrategiaHoja, ordenadoHijo + d);
+        }
+
+        // Raíz en modo adaptativo: resuelve sin más trabajo una entrada ascendente o descendente y,
+        // si no, invierte las corridas descendentes largas. Devuelve true si ya quedó ordenado.
+        private boolean prepararCorridas() {
+            ordenadoHasta = finAscendente(arreglo, inicio + 1, fin);
+            if (ordenadoHasta >= fin) {
+                registrarOmitido();
+                return true;
+            }
+            if (arreglo[inicio] >= arreglo[inicio + 1] && finDescendente(arreglo, inicio + 1, fin) >= fin) {
+                invertir(arreglo, inicio, fin);
+                registrarOmitido();
+                return true;
+            }
+
+            new InvertirDescendentes(arreglo, inicio, fin).invoke();
+            // Una corrida invertida puede empezar en el último elemento del prefijo ascendente
+            ordenadoHasta = Math.max(inicio, ordenadoHasta - 1);
+            return false;
+        }
+
+        // Cuenta como hecho el trabajo de un subárbol que no hizo falta: su hoja y sus merges
+        private void registrarOmitido() {
+            if (metricas == null) return;
+            long elementos = Math.max(0, fin - inicio);
+            metricas.registrarHoja(elementos, 0);
+            long mezclados = MetricasOrdenamiento.elementosPorMezclar(elementos, umbral);
+            if (mezclados > 0) metricas.registrarMerge(mezclados, 0);
+        }
+
+        // Primera posición i >= desde con a[i - 1] > a[i], o hasta si no hay ninguna
+        static int finAscendente(int[] a, int desde, int hasta) {
+            int i = desde;
+            while (i < hasta && a[i - 1] <= a[i]) i++;
+            return i;
+        }
+
+        // Primera posición i >= desde con a[i - 1] < a[i], o hasta si no hay ninguna
+        static int finDescendente(int[] a, int desde, int hasta) {
+            int i = desde;
+            while (i < hasta && a[i - 1] >= a[i]) i++;
+            return i;
+        }
+
+        // Con claves int los iguales son indistinguibles, así que invertir no rompe ninguna estabilidad
+        static void invertir(int[] a, int desde, int hasta) {
+            for (int i = desde, j = hasta - 1; i < j; i++, j--) {
+                int t = a[i];
+                a[i] = a[j];
+                a[j] = t;
+            }
+        }
+
+        // Invierte en paralelo las corridas descendentes largas; cada bloque solo mira las suyas
+        static class InvertirDescendentes extends RecursiveAction {
+            private final int[] arreglo;
+            private final int inicio, fin;
+
+            InvertirDescendentes(int[] arreglo, int inicio, int fin) {
+                this.arreglo = arreglo;
+                this.inicio = inicio;
+                this.fin = fin;
+            }
+
+            @Override
+            protected void compute() {
+                if (fin - inicio > BLOQUE_INVERSION) {
+                    int medio = (inicio + fin) >>> 1;
+                    invokeAll(new InvertirDescendentes(arreglo, inicio, medio),
+                              new InvertirDescendentes(arreglo, medio, fin));
+                    return;
+                }
+                int i = inicio + 1;
+                while (i < fin) {
+                    if (arreglo[i - 1] <= arreglo[i]) {
+                        i++;
+                        continue;
+                    }
+                    int desde = i - 1;
+                    int hasta = finDescendente(arreglo, i + 1, fin);
+                    if (hasta - desde >= CORRIDA_DESCENDENTE_MINIMA) {
+                        invertir(arreglo, desde, hasta);
+                    }
+                    i = hasta + 1;
+                }
+            }
+        }
+
+        private void ordenarHoja() {
+            EventoFase evento = new EventoFase(EventoFase.HOJA, fin - inicio);
+            evento.begin();
+            long t0 = metricas != null ? System.nanoTime() : 0;
+            if (estrategiaHoja == EstrategiaHoja.BLOQUES_CACHE) {
+                // Con buffer alternado origen tiene el rango libre para usarlo de buffer; si no, uno propio
+                if (origen != null) {
+                    OrdenamientoHoja.ordenar(arreglo, inicio, fin, origen, inicio + desplazamiento);
+                } else {
+                    OrdenamientoHoja.ordenar(arreglo, inicio, fin, new int[fin - inicio], 0);
+                }
+            } else {
+                Arrays.sort(arreglo, inicio, fin);
+            }
+            if (metricas != null) {
+                metricas.registrarHoja(fin - inicio, System.nanoTime() - t0);
+            }
+            evento.commit();
+        }
+
+        private void merge(int inicio, int medio, int fin) {
+            if (origen != null) {
+                int d = desplazamiento;
+                mezclar(origen, inicio + d, medio + d, medio + d, fin + d, arreglo, inicio);
+                return;
+            }
+
+            int desde = inicio, hasta = fin;
+            if (adaptativo) {
+                // Lo que ya está en su lugar en cada extremo no pasa por el temporal
+                desde = cotaSuperior(arreglo, inicio, medio, arreglo[medio]);
+                hasta = cotaInferior(arreglo, medio, fin, arreglo[medio - 1]);
+                if (metricas != null) metricas.registrarMerge((fin - inicio) - (hasta - desde), 0);
+                if (desde == medio || hasta == medio) return;
+            }
+
+            int[] temp = new int[hasta - desde];
+            mezclar(arreglo, desde, medio, medio, hasta, temp, 0);
+            System.arraycopy(temp, 0, arreglo, desde, temp.length);
+        }
+
+        private void mezclar(int[] fuente, int a0, int a1, int b0, int b1, int[] destino, int k) {
+            KernelMezcla kernel = adaptativo ? KernelMezcla.GALOPE
+                    : estrategiaHoja == EstrategiaHoja.BLOQUES_CACHE ? KernelMezcla.VECTORIAL
+                    : KernelMezcla.CON_RAMAS;
+            if (umbralMerge > 0 && (a1 - a0) + (b1 - b0) > umbralMerge) {
+                new MergeParalelo(fuente, a0, a1, b0, b1, destino, k, umbralMerge, metricas, kernel).invoke();
+            } else {
+                mezclarInstrumentado(fuente, a0, a1, b0, b1, destino, k, metricas, kernel);
+            }
+        }
+
+        // Tramo secuencial de un merge, con su evento JFR y, si hay métricas, su cuenta de avance
+        static void mezclarInstrumentado(int[] fuente, int a0, int a1, int b0, int b1, int[] destino, int k,
+                                         MetricasOrdenamiento metricas, KernelMezcla kernel) {
+            int elementos = (a1 - a0) + (b1 - b0);
+            EventoFase evento = new EventoFase(EventoFase.MERGE, elementos);
+            evento.begin();
+            long t0 = metricas != null ? System.nanoTime() : 0;
+            OrdenamientoHoja.mezclar(kernel, fuente, a0, a1, b0, b1, destino, k);
+            if (metricas != null) {
+                metricas.registrarMerge(elementos, System.nanoTime() - t0);
+            }
+            evento.commit();
+        }
+
+        // Mezcla fuente[a0, a1) y fuente[b0, b1) en destino a partir de la posición k
+        static void mezclarSecuencial(int[] fuente, int a0, int a1, int b0, int b1, int[] destino, int k) {
+            int i = a0, j = b0;
+
+            while (i < a1 && j < b1) {
+                destino[k++] = (fuente[i] <= fuente[j]) ? fuente[i++] : fuente[j++];
+            }
+
+            while (i < a1) destino[k++] = fuente[i++];
+            while (j < b1) destino[k++] = fuente[j++];
+        }
+
+        // Como mezclarSecuencial, pero copia en bloque los extremos que ya están en su lugar y, cuando
+        // un lado gana GALOPE_MINIMO veces seguidas, busca con búsqueda exponencial hasta dónde sigue
+        // ganando y copia ese tramo de una vez. Las rachas se miran por tramos para no agregar ramas
+        // al caso aleatorio.
+        static void mezclarGalopando(int[] fuente, int a0, int a1, int b0, int b1, int[] destino, int k) {
+            if (a0 < a1 && b0 < b1) {
+                int corte = cotaSuperior(fuente, a0, a1, fuente[b0]);
+                System.arraycopy(fuente, a0, destino, k, corte - a0);
+                k += corte - a0;
+                a0 = corte;
+            }
+            if (a0 < a1 && b0 < b1) {
+                int corte = cotaInferior(fuente, b0, b1, fuente[a1 - 1]);
+                System.arraycopy(fuente, corte, destino, k + (a1 - a0) + (corte - b0), b1 - corte);
+                b1 = corte;
+            }
+
+            int i = a0, j = b0;
+            while (i < a1 && j < b1) {
+                // Tramos cortos del merge simple, sin comprobar límites; si en todo el tramo ganó un
+                // solo lado es probable que siga ganando y se galopa
+                int i0 = i, j0 = j;
+                int pasos = Math.min(GALOPE_MINIMO, Math.min(a1 - i, b1 - j));
+                for (int p = 0; p < pasos; p++) {
+                    destino[k++] = (fuente[i] <= fuente[j]) ? fuente[i++] : fuente[j++];
+                }
+                if (j == j0 && i < a1) {
+                    int hasta = galoparSuperior(fuente, i, a1, fuente[j]);
+                    System.arraycopy(fuente, i, destino, k, hasta - i);
+                    k += hasta - i;
+                    i = hasta;
+                } else if (i == i0 && j < b1) {
+                    int hasta = galoparInferior(fuente, j, b1, fuente[i]);
+                    System.arraycopy(fuente, j, destino, k, hasta - j);
+                    k += hasta - j;
+                    j = hasta;
+                }
+            }
+
+            System.arraycopy(fuente, i, destino, k, a1 - i);
+            System.arraycopy(fuente, j, destino, k + (a1 - i), b1 - j);
+        }
+
+        // cotaSuperior buscando primero con saltos 1, 2, 4... desde el inicio: barato si la respuesta está cerca
+        static int galoparSuperior(int[] a, int desde, int hasta, int clave) {
+            int anterior = desde, salto = 1;
+            while (desde + salto < hasta && a[desde + salto] <= clave) {
+                anterior = desde + salto;
+                salto <<= 1;
+            }
+            return cotaSuperior(a, anterior, Math.min(desde + salto, hasta), clave);
+        }
+
+        // Igual que galoparSuperior para cotaInferior
+        static int galoparInferior(int[] a, int desde, int hasta, int clave) {
+            int anterior = desde, salto = 1;
+            while (desde + salto < hasta && a[desde + salto] < clave) {
+                anterior = desde + salto;
+                salto <<= 1;
+            }
+            return cotaInferior(a, anterior, Math.min(desde + salto, hasta), clave);
+        }
+
+        // Primera posición de [desde, hasta) cuyo valor es >= clave
+        static int cotaInferior(int[] a, int desde, int hasta, int clave) {
+            while (desde < hasta) {
+                int m = (desde + hasta) >>> 1;
+                if (a[m] < clave) desde = m + 1; else hasta = m;
+            }
+            return desde;
+        }
+
+        // Primera posición de [desde, hasta) cuyo valor es > clave
+        static int cotaSuperior(int[] a, int desde, int hasta, int clave) {
+            while (desde < hasta) {
+                int m = (desde + hasta) >>> 1;
+                if (a[m] <= clave) desde = m + 1; else hasta = m;
+            }
+            return desde;
+        }
+
+        // Merge fork-join: parte la corrida más larga por la mitad, busca el punto de corte
+        // equivalente en la otra y mezcla ambas mitades de forma independiente
+        static class MergeParalelo extends RecursiveAction {
+            private final int[] fuente, destino;
+            private final int a0, a1, b0, b1, k;
+            private final int umbralMerge;
+            private final MetricasOrdenamiento metricas;
+            private final KernelMezcla kernel;
+
+            MergeParalelo(int[] fuente, int a0, int a1, int b0, int b1, int[] destino, int k, int umbralMerge,
+                          MetricasOrdenamiento metricas, KernelMezcla kernel) {
+                this.fuente = fuente;
+                this.a0 = a0;
+                this.a1 = a1;
+                this.b0 = b0;
+                this.b1 = b1;
+                this.destino = destino;
+                this.k = k;
+                this.umbralMerge = umbralMerge;
+                this.metricas = metricas;
+                this.kernel = kernel;
+            }
+
+            @Override
+            protected void compute() {
+                int largoA = a1 - a0, largoB = b1 - b0;
+                if (largoA + largoB <= Math.max(umbralMerge, 2) || largoA == 0 || largoB == 0) {
+                    mezclarInstrumentado(fuente, a0, a1, b0, b1, destino, k, metricas, kernel);
+                    return;
+                }
+
+                // Los empates quedan del lado de la corrida izquierda para mantener la estabilidad
+                int corteA, corteB;
+                if (largoA >= largoB) {
+                    corteA = (a0 + a1) >>> 1;
+                    corteB = cotaInferior(fuente, b0, b1, fuente[corteA]);
+                } else {
+                    corteB = (b0 + b1) >>> 1;
+                    corteA = cotaSuperior(fuente, a0, a1, fuente[corteB]);
+                }
+
+                int kDerecha = k + (corteA - a0) + (corteB - b0);
+                invokeAll(new MergeParalelo(fuente, a0, corteA, b0, corteB, destino, k, umbralMerge, metricas,
+                                            kernel),
+                          new MergeParalelo(fuente, corteA, a1, corteB, b1, destino, kDerecha, umbralMerge, metricas,
+                                            kernel));
+            }
+        }
+    }
+}
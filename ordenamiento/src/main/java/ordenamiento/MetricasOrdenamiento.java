@@ -0,0 +1,69 @@
+package ordenamiento;
+
+import java.util.concurrent.atomic.LongAdder;
+
+// Contadores de avance de un MergeSortParalelo.
+//
+// Cada contador es un LongAdder: los hilos del pool suman en celdas separadas sin competir por la
+// misma línea de caché, y solo quien consulta (la UI, con un temporizador) paga el costo de sumarlas.
+public class MetricasOrdenamiento {
+
+    private final LongAdder elementosEnHojas = new LongAdder();
+    private final LongAdder elementosMezclados = new LongAdder();
+    private final LongAdder nanosEnHojas = new LongAdder();
+    private final LongAdder nanosEnMerges = new LongAdder();
+    private volatile long trabajoTotal = 0;
+
+    // La raíz lo llama al empezar: cada elemento pasa una vez por una hoja y una vez por cada merge
+    // que lo contiene
+    void iniciar(long elementos, int umbral) {
+        trabajoTotal = elementos + elementosPorMezclar(elementos, umbral);
+    }
+
+    // Elementos que mezcla en total un árbol de MergeSortParalelo sobre un rango de ese tamaño; las
+    // hojas no quedan todas a la misma profundidad, así que se cuenta el árbol real
+    static long elementosPorMezclar(long tamaño, int umbral) {
+        return mezclados(tamaño, umbral)[0];
+    }
+
+    // {M(t), M(t + 1)}: las mitades de t y t + 1 siempre son m y m + 1 con m = t / 2, así que
+    // alcanzan log2(t) pasos en lugar de recorrer todos los nodos
+    private static long[] mezclados(long tamaño, int umbral) {
+        if (tamaño + 1 <= umbral) return new long[]{0, 0};
+        long[] m = mezclados(tamaño / 2, umbral);
+        long actual = tamaño % 2 == 0 ? tamaño + 2 * m[0] : tamaño + m[0] + m[1];
+        long siguiente = tamaño % 2 == 0 ? tamaño + 1 + m[0] + m[1] : tamaño + 1 + 2 * m[1];
+        return new long[]{tamaño <= umbral ? 0 : actual, siguiente};
+    }
+
+    void registrarHoja(long elementos, long nanos) {
+        elementosEnHojas.add(elementos);
+        nanosEnHojas.add(nanos);
+    }
+
+    void registrarMerge(long elementos, long nanos) {
+        elementosMezclados.add(elementos);
+        nanosEnMerges.add(nanos);
+    }
+
+    public void reiniciar() {
+        elementosEnHojas.reset();
+        elementosMezclados.reset();
+        nanosEnHojas.reset();
+        nanosEnMerges.reset();
+        trabajoTotal = 0;
+    }
+
+    // Fracción completada en [0, 1]; 0 mientras la raíz aún no empezó
+    public double progreso() {
+        long total = trabajoTotal;
+        if (total == 0) return 0;
+        return Math.min(1.0, (double) (elementosEnHojas.sum() + elementosMezclados.sum()) / total);
+    }
+
+    public long elementosEnHojas()   { return elementosEnHojas.sum(); }
+    public long elementosMezclados() { return elementosMezclados.sum(); }
+    // Tiempos sumados sobre todos los hilos, no tiempo de reloj
+    public long nanosEnHojas()       { return nanosEnHojas.sum(); }
+    public long nanosEnMerges()      { return nanosEnMerges.sum(); }
+}
@@ -0,0 +1,108 @@
+package ordenamiento;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorShuffle;
+import jdk.incubator.vector.VectorSpecies;
+
+// Kernel de merge con el Vector API (módulo incubador jdk.incubator.vector de JDK 17).
+//
+// Mezcla de a W elementos, con W el ancho de vector preferido: el vector que quedó del paso anterior
+// y el siguiente vector de la corrida con la cabeza más chica pasan por una red bitónica que deja en
+// la mitad baja los W menores, que se escriben, y en la alta los W mayores, que siguen. La red son
+// log2(W) + 1 niveles de min/max sin ninguna rama. Solo se carga si el módulo está en la JVM:
+// OrdenamientoHoja lo comprueba antes de llamar.
+final class MezclaVectorial {
+
+    private static final VectorSpecies<Integer> ESPECIE = IntVector.SPECIES_PREFERRED;
+    private static final int W = ESPECIE.length();
+
+    private static final VectorShuffle<Integer> INVERTIR = VectorShuffle.fromOp(ESPECIE, i -> W - 1 - i);
+
+    // Un nivel de la red bitónica con paso W/2, W/4... 1: la pareja de cada carril y los carriles
+    // que se quedan con el máximo
+    private static final class Nivel {
+        final VectorShuffle<Integer> pareja;
+        final VectorMask<Integer> maximo;
+
+        Nivel(int paso) {
+            pareja = VectorShuffle.fromOp(ESPECIE, i -> i ^ paso);
+            boolean[] carriles = new boolean[W];
+            for (int i = 0; i < W; i++) carriles[i] = (i & paso) != 0;
+            maximo = VectorMask.fromArray(ESPECIE, carriles, 0);
+        }
+    }
+
+    private static final Nivel[] NIVELES = new Nivel[Integer.numberOfTrailingZeros(W)];
+
+    static {
+        for (int nivel = 0; nivel < NIVELES.length; nivel++) {
+            NIVELES[nivel] = new Nivel(W >> (nivel + 1));
+        }
+    }
+
+    private MezclaVectorial() {
+    }
+
+    static int ancho() {
+        return W;
+    }
+
+    // Mezcla fuente[a0, a1) y fuente[b0, b1) en destino a partir de la posición k; destino no puede
+    // ser fuente
+    static void mezclar(int[] fuente, int a0, int a1, int b0, int b1, int[] destino, int k) {
+        if (a1 - a0 < W || b1 - b0 < W) {
+            OrdenamientoHoja.mezclarSinSaltos(fuente, a0, a1, fuente, b0, b1, destino, k);
+            return;
+        }
+
+        IntVector alto = IntVector.fromArray(ESPECIE, fuente, a0);
+        int i = a0 + W, j = b0;
+        while (true) {
+            // El próximo vector sale de la corrida cuya cabeza es menor; si le quedan menos de W
+            // elementos se termina en escalar
+            boolean tomaA = j >= b1 || (i < a1 && fuente[i] <= fuente[j]);
+            IntVector siguiente;
+            if (tomaA) {
+                if (a1 - i < W) break;
+                siguiente = IntVector.fromArray(ESPECIE, fuente, i);
+                i += W;
+            } else {
+                if (b1 - j < W) break;
+                siguiente = IntVector.fromArray(ESPECIE, fuente, j);
+                j += W;
+            }
+            // alto es ascendente y siguiente invertido descendente: min y max son bitónicos y todo
+            // min es <= todo max
+            IntVector invertido = siguiente.rearrange(INVERTIR);
+            ordenarBitonico(alto.min(invertido)).intoArray(destino, k);
+            alto = ordenarBitonico(alto.max(invertido));
+            k += W;
+        }
+
+        // Quedan alto y el resto de ambas corridas: se mezclan los tres en escalar, leyendo los
+        // carriles de alto sin pasar por memoria, hasta agotar alto; después sigue el merge de dos
+        int carril = 0, x = alto.lane(0);
+        while (carril < W) {
+            if (i < a1 && fuente[i] < x && (j >= b1 || fuente[i] <= fuente[j])) {
+                destino[k++] = fuente[i++];
+            } else if (j < b1 && fuente[j] < x) {
+                destino[k++] = fuente[j++];
+            } else {
+                destino[k++] = x;
+                if (++carril < W) x = alto.lane(carril);
+            }
+        }
+        OrdenamientoHoja.mezclarSinSaltos(fuente, i, a1, fuente, j, b1, destino, k);
+    }
+
+    // Ordena un vector bitónico: en cada nivel cada carril se compara con el que está a distancia
+    // paso y la mitad alta de cada par se queda con el máximo
+    private static IntVector ordenarBitonico(IntVector v) {
+        for (Nivel nivel : NIVELES) {
+            IntVector pareja = v.rearrange(nivel.pareja);
+            v = v.min(pareja).blend(v.max(pareja), nivel.maximo);
+        }
+        return v;
+    }
+}
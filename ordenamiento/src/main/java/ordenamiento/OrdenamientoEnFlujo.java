@@ -0,0 +1,413 @@
+package ordenamiento;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.locks.LockSupport;
+
+// Ordenamiento en flujo: la entrada llega por bloques y se ordena mientras sigue llegando.
+//
+// El hilo que llama lee cada bloque directamente en su lugar del arreglo final y lo entrega al pool,
+// que lo ordena con MergeSortParalelo sin esperar a los demás. Las corridas ordenadas se mezclan como
+// un contador binario: dos corridas vecinas con la misma cantidad de bloques se mezclan en cuanto
+// ambas están listas, alternando entre el arreglo y un único buffer auxiliar. Al llegar el último
+// bloque solo quedan por mezclar log2(bloques) corridas, así el resultado está listo poco después.
+//
+// ordenarPorFases() mide lo mismo con la tubería de MergeSortParaleloUI (toda la entrada, después
+// la copia y recién entonces el ordenamiento) para comparar tiempo hasta el resultado y solapamiento.
+//
+// Uso: java OrdenamientoEnFlujo [--tamano N] [--distribucion D] [--semilla N] [--entrada datos.bin]
+//          [--orden big|little] [--elementos-por-bloque N] [--umbral N] [--paralelismo N]
+//          [--ritmo elementos/s]
+public class OrdenamientoEnFlujo {
+
+    public static final int ELEMENTOS_POR_BLOQUE_POR_DEFECTO = 1 << 20;
+    private static final int BYTES_BUFFER_LECTURA = 1 << 20;
+
+    private final ForkJoinPool pool;
+    private final int elementosPorBloque;
+    private final int umbral;
+
+    // Origen de los bloques: el generador, un archivo o cualquier productor que sepa cuánto entregará
+    public interface Fuente extends Closeable {
+        long tamaño();
+
+        // Copia hasta largo elementos en destino desde la posición desde; 0 cuando ya no quedan
+        int leer(int[] destino, int desde, int largo) throws IOException;
+
+        @Override
+        default void close() throws IOException {
+        }
+    }
+
+    public static final class Resultado {
+        public final int[] ordenado;
+        public final int bloques;
+        public final long nanosUltimoBloque; // desde el inicio hasta que llegó el último bloque
+        public final long nanosResultado;    // desde el inicio hasta tener todo ordenado
+        public final long nanosTrabajo;      // suma de los tiempos de ordenamiento y merge de cada paso
+        public final long nanosSolapados;    // la parte de nanosTrabajo anterior al último bloque
+
+        Resultado(int[] ordenado, int bloques, long nanosUltimoBloque, long nanosResultado, long nanosTrabajo,
+                  long nanosSolapados) {
+            this.ordenado = ordenado;
+            this.bloques = bloques;
+            this.nanosUltimoBloque = nanosUltimoBloque;
+            this.nanosResultado = nanosResultado;
+            this.nanosTrabajo = nanosTrabajo;
+            this.nanosSolapados = nanosSolapados;
+        }
+
+        // Lo que hubo que esperar después de recibir toda la entrada
+        public long nanosTrasUltimoBloque() {
+            return nanosResultado - nanosUltimoBloque;
+        }
+
+        // Fracción del trabajo de ordenamiento que se hizo mientras la entrada seguía llegando
+        public double solapamiento() {
+            return nanosTrabajo == 0 ? 0 : (double) nanosSolapados / nanosTrabajo;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT, "%,4d bloques | último bloque %,8d ms | resultado %,8d ms "
+                                 + "| espera tras el último %,8d ms | solapamiento %3.0f%%", bloques,
+                                 nanosUltimoBloque / 1_000_000, nanosResultado / 1_000_000,
+                                 nanosTrasUltimoBloque() / 1_000_000, solapamiento() * 100);
+        }
+    }
+
+    // Un tramo ordenado [desde, hasta) y el buffer donde quedó
+    private static final class Corrida {
+        final int desde, hasta;
+        final int[] buffer;
+
+        Corrida(int desde, int hasta, int[] buffer) {
+            this.desde = desde;
+            this.hasta = hasta;
+            this.buffer = buffer;
+        }
+    }
+
+    // Una corrida que el pool todavía puede estar ordenando o mezclando, con cuántos bloques abarca
+    private static final class Pendiente {
+        final CompletableFuture<Corrida> corrida;
+        final int bloques;
+
+        Pendiente(CompletableFuture<Corrida> corrida, int bloques) {
+            this.corrida = corrida;
+            this.bloques = bloques;
+        }
+    }
+
+    public OrdenamientoEnFlujo(ForkJoinPool pool, int elementosPorBloque, int umbral) {
+        if (elementosPorBloque < 1) {
+            throw new IllegalArgumentException("elementosPorBloque debe ser positivo");
+        }
+        this.pool = pool;
+        this.elementosPorBloque = elementosPorBloque;
+        this.umbral = umbral;
+    }
+
+    public Resultado ordenar(Fuente fuente) throws IOException {
+        int n = tamañoEnMemoria(fuente);
+        int[] datos = new int[n];
+        int[] aux = new int[n];
+        // Intervalos {inicio, fin} de cada paso en el pool, para medir el solapamiento al final
+        ConcurrentLinkedQueue<long[]> intervalos = new ConcurrentLinkedQueue<>();
+        // Pila del contador binario: corridas vecinas, la de la cima es la más a la derecha
+        Deque<Pendiente> pila = new ArrayDeque<>();
+
+        long inicio = System.nanoTime();
+        int bloques = 0;
+        for (int posicion = 0; posicion < n; bloques++) {
+            int largo = leerCompleto(fuente, datos, posicion, Math.min(elementosPorBloque, n - posicion));
+            if (largo == 0) {
+                throw new IOException("La fuente terminó en " + posicion + " de " + n + " elementos");
+            }
+            int desde = posicion, hasta = posicion + largo;
+            pila.push(new Pendiente(CompletableFuture.supplyAsync(() -> medir(intervalos, () -> {
+                System.arraycopy(datos, desde, aux, desde, hasta - desde);
+                MergeSortParaleloUI.MergeSortParalelo.conBuffer(datos, aux, desde, hasta, umbral,
+                        MergeSortParaleloUI.MergeSortParalelo.UMBRAL_MERGE_POR_DEFECTO).invoke();
+                return new Corrida(desde, hasta, datos);
+            }), pool), 1));
+            // Dos corridas con la misma cantidad de bloques se mezclan en cuanto ambas estén listas
+            while (pila.size() > 1) {
+                Pendiente derecha = pila.pop();
+                if (pila.peek().bloques != derecha.bloques) {
+                    pila.push(derecha);
+                    break;
+                }
+                pila.push(combinar(pila.pop(), derecha, datos, aux, intervalos));
+            }
+            posicion = hasta;
+        }
+        long ultimoBloque = System.nanoTime();
+
+        while (pila.size() > 1) {
+            Pendiente derecha = pila.pop();
+            pila.push(combinar(pila.pop(), derecha, datos, aux, intervalos));
+        }
+        int[] ordenado = pila.isEmpty() ? datos : pila.pop().corrida.join().buffer;
+        long fin = System.nanoTime();
+
+        long trabajo = 0, solapados = 0;
+        for (long[] intervalo : intervalos) {
+            trabajo += intervalo[1] - intervalo[0];
+            solapados += Math.max(0, Math.min(intervalo[1], ultimoBloque) - intervalo[0]);
+        }
+        return new Resultado(ordenado, bloques, ultimoBloque - inicio, fin - inicio, trabajo, solapados);
+    }
+
+    // La tubería por fases de MergeSortParaleloUI sobre la misma fuente: toda la entrada, una copia de
+    // trabajo y el ordenamiento completo, uno detrás del otro
+    public Resultado ordenarPorFases(Fuente fuente) throws IOException {
+        int n = tamañoEnMemoria(fuente);
+        long inicio = System.nanoTime();
+        int[] entrada = new int[n];
+        int bloques = 0;
+        for (int posicion = 0; posicion < n; bloques++) {
+            int largo = leerCompleto(fuente, entrada, posicion, Math.min(elementosPorBloque, n - posicion));
+            if (largo == 0) {
+                throw new IOException("La fuente terminó en " + posicion + " de " + n + " elementos");
+            }
+            posicion += largo;
+        }
+        long ultimoBloque = System.nanoTime();
+
+        int[] ordenado = Arrays.copyOf(entrada, n);
+        long inicioTrabajo = System.nanoTime();
+        pool.invoke(new MergeSortParaleloUI.MergeSortParalelo(ordenado, 0, n, umbral,
+                MergeSortParaleloUI.MergeSortParalelo.EstrategiaMerge.BUFFER_ALTERNADO,
+                MergeSortParaleloUI.MergeSortParalelo.UMBRAL_MERGE_POR_DEFECTO));
+        long fin = System.nanoTime();
+        return new Resultado(ordenado, bloques, ultimoBloque - inicio, fin - inicio, fin - inicioTrabajo, 0);
+    }
+
+    private static int tamañoEnMemoria(Fuente fuente) {
+        long n = fuente.tamaño();
+        if (n > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException(n + " elementos no caben en un arreglo; usar OrdenamientoExterno");
+        }
+        return (int) n;
+    }
+
+    // Las fuentes pueden entregar menos de lo pedido, como un socket
+    private static int leerCompleto(Fuente fuente, int[] destino, int desde, int largo) throws IOException {
+        int leidos = 0;
+        while (leidos < largo) {
+            int cuantos = fuente.leer(destino, desde + leidos, largo - leidos);
+            if (cuantos <= 0) break;
+            leidos += cuantos;
+        }
+        return leidos;
+    }
+
+    // El merge de dos corridas vecinas, que corre en el pool cuando ambas terminan
+    private Pendiente combinar(Pendiente izquierda, Pendiente derecha, int[] datos, int[] aux,
+                               ConcurrentLinkedQueue<long[]> intervalos) {
+        CompletableFuture<Corrida> mezcla = izquierda.corrida.thenCombineAsync(derecha.corrida,
+                (a, b) -> medir(intervalos, () -> mezclar(a, b, datos, aux)), pool);
+        return new Pendiente(mezcla, izquierda.bloques + derecha.bloques);
+    }
+
+    // Mezcla dos corridas vecinas en el otro buffer; si quedaron en buffers distintos la más corta se
+    // copia primero junto a la otra
+    private static Corrida mezclar(Corrida a, Corrida b, int[] datos, int[] aux) {
+        int[] fuente = a.buffer;
+        if (b.buffer != a.buffer) {
+            if (b.hasta - b.desde <= a.hasta - a.desde) {
+                System.arraycopy(b.buffer, b.desde, fuente, b.desde, b.hasta - b.desde);
+            } else {
+                fuente = b.buffer;
+                System.arraycopy(a.buffer, a.desde, fuente, a.desde, a.hasta - a.desde);
+            }
+        }
+        int[] destino = fuente == datos ? aux : datos;
+        new MergeSortParaleloUI.MergeSortParalelo.MergeParalelo(fuente, a.desde, a.hasta, b.desde, b.hasta, destino,
+                a.desde, MergeSortParaleloUI.MergeSortParalelo.UMBRAL_MERGE_POR_DEFECTO, null,
+                OrdenamientoHoja.KernelMezcla.CON_RAMAS).invoke();
+        return new Corrida(a.desde, b.hasta, destino);
+    }
+
+    private interface Paso {
+        Corrida ejecutar();
+    }
+
+    private static Corrida medir(ConcurrentLinkedQueue<long[]> intervalos, Paso paso) {
+        long inicio = System.nanoTime();
+        Corrida corrida = paso.ejecutar();
+        intervalos.add(new long[]{inicio, System.nanoTime()});
+        return corrida;
+    }
+
+    // Los bloques de GeneradorDatos.generar(), en el mismo orden y con los mismos valores
+    public static Fuente generador(int tamaño, GeneradorDatos.Distribucion distribucion, long semilla) {
+        GeneradorDatos.Secuencia secuencia = new GeneradorDatos.Secuencia(tamaño, distribucion, semilla);
+        return new Fuente() {
+            @Override
+            public long tamaño() {
+                return secuencia.tamaño();
+            }
+
+            @Override
+            public int leer(int[] destino, int desde, int largo) {
+                return secuencia.siguiente(destino, desde, largo);
+            }
+        };
+    }
+
+    // Un archivo binario de int como los que usa OrdenamientoExterno
+    public static Fuente archivo(Path archivo, ByteOrder orden) throws IOException {
+        long bytes = Files.size(archivo);
+        if (bytes % Integer.BYTES != 0) {
+            throw new IOException(archivo + " no contiene un número entero de int (" + bytes + " bytes)");
+        }
+        FileChannel canal = FileChannel.open(archivo, StandardOpenOption.READ);
+        ByteBuffer buffer = ByteBuffer.allocateDirect(BYTES_BUFFER_LECTURA).order(orden);
+        return new Fuente() {
+            @Override
+            public long tamaño() {
+                return bytes / Integer.BYTES;
+            }
+
+            @Override
+            public int leer(int[] destino, int desde, int largo) throws IOException {
+                buffer.clear().limit((int) Math.min(buffer.capacity(), (long) largo * Integer.BYTES));
+                // El archivo tiene un número entero de int: lleno o al final, el buffer no queda a medias
+                while (buffer.hasRemaining()) {
+                    if (canal.read(buffer) < 0) break;
+                }
+                int cuantos = buffer.position() / Integer.BYTES;
+                buffer.flip().asIntBuffer().get(destino, desde, cuantos);
+                return cuantos;
+            }
+
+            @Override
+            public void close() throws IOException {
+                canal.close();
+            }
+        };
+    }
+
+    // Entrega la fuente a un ritmo fijo, como un productor remoto o un socket
+    public static Fuente conRitmo(Fuente fuente, long elementosPorSegundo) {
+        return new Fuente() {
+            private long inicio = 0;
+            private long entregados = 0;
+
+            @Override
+            public long tamaño() {
+                return fuente.tamaño();
+            }
+
+            @Override
+            public int leer(int[] destino, int desde, int largo) throws IOException {
+                if (inicio == 0) inicio = System.nanoTime();
+                int cuantos = fuente.leer(destino, desde, largo);
+                entregados += cuantos;
+                long esperar = inicio + entregados * 1_000_000_000L / elementosPorSegundo - System.nanoTime();
+                if (esperar > 0) LockSupport.parkNanos(esperar);
+                return cuantos;
+            }
+
+            @Override
+            public void close() throws IOException {
+                fuente.close();
+            }
+        };
+    }
+
+    public static void main(String[] args) throws IOException {
+        int tamaño = 10_000_000;
+        GeneradorDatos.Distribucion distribucion = GeneradorDatos.Distribucion.UNIFORME;
+        long semilla = 42;
+        Path entrada = null;
+        ByteOrder orden = ByteOrder.BIG_ENDIAN;
+        int elementosPorBloque = ELEMENTOS_POR_BLOQUE_POR_DEFECTO;
+        int umbral = MergeSortParaleloUI.MergeSortParalelo.UMBRAL_AUTOMATICO;
+        int paralelismo = Runtime.getRuntime().availableProcessors();
+        long ritmo = 0; // 0: tan rápido como entregue la fuente
+
+        try {
+            for (int i = 0; i < args.length; i++) {
+                String clave = args[i];
+                if (i + 1 >= args.length) throw new IllegalArgumentException("Falta el valor de " + clave);
+                String valor = args[++i];
+                switch (clave) {
+                    case "--tamano":
+                    case "--tamaño":               tamaño = Integer.parseInt(valor.replace("_", "")); break;
+                    case "--semilla":              semilla = Long.parseLong(valor); break;
+                    case "--entrada":              entrada = Paths.get(valor); break;
+                    case "--elementos-por-bloque": elementosPorBloque = Integer.parseInt(valor.replace("_", "")); break;
+                    case "--umbral":               umbral = Integer.parseInt(valor.replace("_", "")); break;
+                    case "--paralelismo":          paralelismo = Integer.parseInt(valor); break;
+                    case "--ritmo":                ritmo = Long.parseLong(valor.replace("_", "")); break;
+                    case "--distribucion":
+                        distribucion = GeneradorDatos.Distribucion.valueOf(valor.toUpperCase(Locale.ROOT));
+                        break;
+                    case "--orden":
+                        if (valor.equalsIgnoreCase("big")) orden = ByteOrder.BIG_ENDIAN;
+                        else if (valor.equalsIgnoreCase("little")) orden = ByteOrder.LITTLE_ENDIAN;
+                        else throw new IllegalArgumentException("Orden de bytes desconocido: " + valor);
+                        break;
+                    default:
+                        throw new IllegalArgumentException("Argumento desconocido: " + clave);
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            System.err.println("❌ " + e.getMessage());
+            System.err.println("Uso: java OrdenamientoEnFlujo [--tamano N] [--distribucion D] [--semilla N] "
+                    + "[--entrada datos.bin] [--orden big|little] [--elementos-por-bloque N] [--umbral N] "
+                    + "[--paralelismo N] [--ritmo elementos/s]");
+            System.exit(2);
+            return;
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(paralelismo);
+        try {
+            OrdenamientoEnFlujo ordenamiento = new OrdenamientoEnFlujo(pool, elementosPorBloque, umbral);
+            // Calentamiento del JIT con una entrada chica para no medir en frío la primera tubería
+            int tamañoCalentamiento = Math.min(tamaño, 1 << 20);
+            ordenamiento.ordenarPorFases(generador(tamañoCalentamiento, distribucion, semilla));
+            ordenamiento.ordenar(generador(tamañoCalentamiento, distribucion, semilla));
+
+            Resultado fases, flujo;
+            try (Fuente fuente = abrir(entrada, orden, tamaño, distribucion, semilla, ritmo)) {
+                fases = ordenamiento.ordenarPorFases(fuente);
+            }
+            System.out.println("Por fases: " + fases);
+            try (Fuente fuente = abrir(entrada, orden, tamaño, distribucion, semilla, ritmo)) {
+                flujo = ordenamiento.ordenar(fuente);
+            }
+            System.out.println("En flujo:  " + flujo);
+            System.out.println(String.format(Locale.ROOT, "📈 Tiempo hasta el resultado: %.2fx",
+                                             (double) fases.nanosResultado / flujo.nanosResultado));
+            boolean correcto = Arrays.equals(fases.ordenado, flujo.ordenado);
+            System.out.println(correcto ? "✅ Ambos resultados coinciden" : "❌ ERROR: los resultados no coinciden");
+            if (!correcto) System.exit(1);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static Fuente abrir(Path entrada, ByteOrder orden, int tamaño, GeneradorDatos.Distribucion distribucion,
+                                long semilla, long ritmo) throws IOException {
+        Fuente fuente = entrada != null ? archivo(entrada, orden) : generador(tamaño, distribucion, semilla);
+        return ritmo > 0 ? conRitmo(fuente, ritmo) : fuente;
+    }
+}
@@ -0,0 +1,499 @@
+package ordenamiento;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+// Ordenamiento externo de archivos binarios de int que no caben en un arreglo de Java.
+//
+// Fase 1: el archivo se lee por bloques de tamaño fijo a través de regiones mapeadas con FileChannel,
+// cada bloque se ordena en memoria con MergeSortParalelo y se escribe como una corrida ordenada, de
+// la que se guarda una muestra regular.
+// Fase 2: el espacio de claves se parte con divisores tomados de esas muestras; cada partición hace
+// su propio merge de k vías con un montículo y escribe en su tramo del archivo de salida, así las
+// particiones se mezclan en paralelo sin coordinarse. Cada partición lee sus tramos de las corridas
+// por ventanas de ELEMENTOS_POR_VENTANA con lecturas posicionales. El heap usado depende solo del
+// tamaño de bloque (el bloque y su buffer auxiliar, reservados una vez), de las ventanas y de los
+// buffers de salida, no del tamaño del archivo.
+//
+// Uso: java OrdenamientoExterno --entrada datos.bin --salida ordenado.bin [--elementos-por-bloque N]
+//          [--umbral N] [--paralelismo N] [--orden big|little] [--generar N] [--semilla N] [--verificar]
+public class OrdenamientoExterno {
+
+    public static final int ELEMENTOS_POR_BLOQUE_POR_DEFECTO = 1 << 24; // 64 MB por bloque
+    // Un bloque se lee con un solo mapeo, que no puede pasar de Integer.MAX_VALUE bytes
+    public static final int MAX_ELEMENTOS_POR_BLOQUE = Integer.MAX_VALUE / Integer.BYTES;
+    private static final int BYTES_BUFFER_SALIDA = 1 << 20;
+    private static final int ELEMENTOS_POR_VENTANA = 1 << 14; // 64 KB por corrida y partición
+    private static final int MUESTRAS_POR_CORRIDA = 256;
+
+    private final ForkJoinPool pool;
+    private final int elementosPorBloque;
+    private final int umbral;
+    private final ByteOrder orden;
+
+    // Tiempo y volumen de una fase, para reportar su throughput
+    public static final class Fase {
+        public final String nombre;
+        public final long bytes;
+        public final long nanos;
+
+        Fase(String nombre, long bytes, long nanos) {
+            this.nombre = nombre;
+            this.bytes = bytes;
+            this.nanos = nanos;
+        }
+
+        public double mbPorSegundo() {
+            return nanos == 0 ? 0 : (bytes / 1_048_576.0) / (nanos / 1e9);
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT, "%-22s %,10d MB en %,8d ms → %,9.1f MB/s",
+                                 nombre, bytes >> 20, nanos / 1_000_000, mbPorSegundo());
+        }
+    }
+
+    public static final class Resultado {
+        public final List<Fase> fases;
+        public final VerificacionOrdenamiento.Huella huellaEntrada;
+
+        Resultado(List<Fase> fases, VerificacionOrdenamiento.Huella huellaEntrada) {
+            this.fases = fases;
+            this.huellaEntrada = huellaEntrada;
+        }
+    }
+
+    public OrdenamientoExterno(ForkJoinPool pool, int elementosPorBloque, int umbral, ByteOrder orden) {
+        if (elementosPorBloque < 1 || elementosPorBloque > MAX_ELEMENTOS_POR_BLOQUE) {
+            throw new IllegalArgumentException("elementosPorBloque debe estar entre 1 y " + MAX_ELEMENTOS_POR_BLOQUE);
+        }
+        this.pool = pool;
+        this.elementosPorBloque = elementosPorBloque;
+        this.umbral = umbral;
+        this.orden = orden;
+    }
+
+    public Resultado ordenar(Path entrada, Path salida) throws IOException {
+        long bytesEntrada = Files.size(entrada);
+        if (bytesEntrada % Integer.BYTES != 0) {
+            throw new IOException(entrada + " no contiene un número entero de int (" + bytesEntrada + " bytes)");
+        }
+        long total = bytesEntrada / Integer.BYTES;
+        Path directorio = Files.createTempDirectory(salida.toAbsolutePath().getParent(), "corridas-");
+        List<Path> corridas = new ArrayList<>();
+        List<int[]> muestras = new ArrayList<>();
+        List<Fase> fases = new ArrayList<>();
+        try {
+            VerificacionOrdenamiento.Huella huella = generarCorridas(entrada, total, directorio, corridas, muestras, fases);
+            long inicio = System.nanoTime();
+            mezclarCorridas(corridas, muestras, salida);
+            fases.add(new Fase("Merge de " + corridas.size() + " corridas", bytesEntrada, System.nanoTime() - inicio));
+            return new Resultado(fases, huella);
+        } finally {
+            for (Path corrida : corridas) {
+                Files.deleteIfExists(corrida);
+            }
+            Files.deleteIfExists(directorio);
+        }
+    }
+
+    // Fase 1: lee, ordena, muestrea y escribe cada bloque; de paso calcula la huella de la entrada
+    private VerificacionOrdenamiento.Huella generarCorridas(Path entrada, long total, Path directorio, List<Path> corridas,
+                                                            List<int[]> muestras, List<Fase> fases) throws IOException {
+        int[] bloque = new int[(int) Math.min(elementosPorBloque, Math.max(1, total))];
+        int[] aux = new int[bloque.length]; // Buffer alternado de MergeSortParalelo, el mismo para todos los bloques
+        ByteBuffer buffer = ByteBuffer.allocateDirect(BYTES_BUFFER_SALIDA).order(orden);
+        VerificacionOrdenamiento.Huella huella = new VerificacionOrdenamiento.Huella(0, 0, 0);
+        long nanosLectura = 0, nanosOrden = 0, nanosEscritura = 0;
+
+        try (FileChannel canal = FileChannel.open(entrada, StandardOpenOption.READ)) {
+            for (long posicion = 0; posicion < total; ) {
+                int largo = (int) Math.min(elementosPorBloque, total - posicion);
+
+                long t0 = System.nanoTime();
+                canal.map(FileChannel.MapMode.READ_ONLY, posicion * Integer.BYTES, (long) largo * Integer.BYTES)
+                     .order(orden).asIntBuffer().get(bloque, 0, largo);
+                long t1 = System.nanoTime();
+                huella = huella.combinar(VerificacionOrdenamiento.huella(bloque, 0, largo, pool));
+                System.arraycopy(bloque, 0, aux, 0, largo);
+                pool.invoke(MergeSortParaleloUI.MergeSortParalelo.conBuffer(bloque, aux, 0, largo, umbral,
+                        MergeSortParaleloUI.MergeSortParalelo.UMBRAL_MERGE_POR_DEFECTO));
+                long t2 = System.nanoTime();
+                muestras.add(muestrear(bloque, largo));
+                Path corrida = directorio.resolve("corrida-" + corridas.size() + ".bin");
+                corridas.add(corrida);
+                escribir(corrida, bloque, largo, buffer);
+                long t3 = System.nanoTime();
+
+                nanosLectura += t1 - t0;
+                nanosOrden += t2 - t1;
+                nanosEscritura += t3 - t2;
+                posicion += largo;
+            }
+        }
+
+        long bytes = total * Integer.BYTES;
+        fases.add(new Fase("Lectura mapeada", bytes, nanosLectura));
+        fases.add(new Fase("Ordenamiento en memoria", bytes, nanosOrden));
+        fases.add(new Fase("Escritura de corridas", bytes, nanosEscritura));
+        return huella;
+    }
+
+    private void escribir(Path archivo, int[] datos, int largo, ByteBuffer buffer) throws IOException {
+        try (FileChannel canal = FileChannel.open(archivo, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            IntBuffer enteros = buffer.clear().asIntBuffer();
+            for (int i = 0; i < largo; ) {
+                int cuantos = Math.min(enteros.capacity(), largo - i);
+                enteros.clear();
+                enteros.put(datos, i, cuantos);
+                buffer.clear().limit(cuantos * Integer.BYTES);
+                while (buffer.hasRemaining()) canal.write(buffer);
+                i += cuantos;
+            }
+        }
+    }
+
+    // Muestra regular de una corrida ya ordenada, tomada mientras está en memoria
+    private static int[] muestrear(int[] corrida, int largo) {
+        int[] muestra = new int[Math.min(MUESTRAS_POR_CORRIDA, largo)];
+        for (int s = 0; s < muestra.length; s++) {
+            muestra[s] = corrida[(int) ((long) largo * s / muestra.length)];
+        }
+        return muestra;
+    }
+
+    // Fase 2: merge paralelo por particiones del espacio de claves
+    private void mezclarCorridas(List<Path> archivos, List<int[]> muestras, Path salida) throws IOException {
+        int k = archivos.size();
+        FileChannel[] corridas = new FileChannel[k];
+        try {
+            int[] largos = new int[k];
+            for (int r = 0; r < k; r++) {
+                corridas[r] = FileChannel.open(archivos.get(r), StandardOpenOption.READ);
+                largos[r] = (int) (corridas[r].size() / Integer.BYTES);
+            }
+
+            int particiones = Math.max(1, pool.getParallelism());
+            int[] divisores = elegirDivisores(muestras, particiones);
+            int[][] limites = new int[divisores.length + 2][k];
+            ByteBuffer entero = ByteBuffer.allocate(Integer.BYTES).order(orden);
+            for (int r = 0; r < k; r++) {
+                for (int p = 0; p < divisores.length; p++) {
+                    limites[p + 1][r] = cotaInferior(corridas[r], largos[r], divisores[p], entero);
+                }
+                limites[divisores.length + 1][r] = largos[r];
+            }
+
+            try (FileChannel canal = FileChannel.open(salida, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                List<MezclaParticion> tareas = new ArrayList<>();
+                long desplazamiento = 0;
+                for (int p = 0; p + 1 < limites.length; p++) {
+                    tareas.add(new MezclaParticion(corridas, limites[p], limites[p + 1], canal, desplazamiento, orden));
+                    for (int r = 0; r < k; r++) {
+                        desplazamiento += limites[p + 1][r] - limites[p][r];
+                    }
+                }
+                try {
+                    pool.invoke(new RecursiveAction() {
+                        @Override
+                        protected void compute() {
+                            invokeAll(tareas);
+                        }
+                    });
+                } catch (UncheckedIOException e) {
+                    throw e.getCause();
+                }
+            }
+        } finally {
+            for (FileChannel corrida : corridas) {
+                if (corrida != null) corrida.close();
+            }
+        }
+    }
+
+    // Divisores tomados de las muestras de todas las corridas
+    private static int[] elegirDivisores(List<int[]> muestras, int particiones) {
+        if (particiones < 2) return new int[0];
+        int m = 0;
+        for (int[] muestra : muestras) m += muestra.length;
+        if (m == 0) return new int[0];
+        int[] todas = new int[m];
+        m = 0;
+        for (int[] muestra : muestras) {
+            System.arraycopy(muestra, 0, todas, m, muestra.length);
+            m += muestra.length;
+        }
+        Arrays.sort(todas);
+
+        int[] divisores = new int[particiones - 1];
+        for (int p = 1; p < particiones; p++) {
+            divisores[p - 1] = todas[(int) ((long) m * p / particiones)];
+        }
+        return divisores;
+    }
+
+    // Búsqueda binaria sobre el archivo: un int leído por paso
+    private static int cotaInferior(FileChannel corrida, int largo, int clave, ByteBuffer entero) throws IOException {
+        int desde = 0, hasta = largo;
+        while (desde < hasta) {
+            int medio = (desde + hasta) >>> 1;
+            entero.clear();
+            leerCompleto(corrida, entero, (long) medio * Integer.BYTES);
+            if (entero.getInt(0) < clave) desde = medio + 1; else hasta = medio;
+        }
+        return desde;
+    }
+
+    // Lectura posicional hasta llenar el buffer: los canales se comparten entre particiones
+    private static void leerCompleto(FileChannel canal, ByteBuffer buffer, long posicion) throws IOException {
+        while (buffer.hasRemaining()) {
+            int leidos = canal.read(buffer, posicion);
+            if (leidos < 0) throw new EOFException("Corrida más corta de lo esperado");
+            posicion += leidos;
+        }
+    }
+
+    // Merge de k vías de un tramo de cada corrida con un montículo mínimo de índices de corrida
+    static class MezclaParticion extends RecursiveAction {
+        private final FileChannel[] corridas;
+        private final int[] posiciones, fines; // Próximo elemento a leer del archivo y fin del tramo
+        private final FileChannel canal;
+        private final long desplazamiento;
+        private final ByteOrder orden;
+
+        // Ventana de cada corrida: ventanas[r][cursores[r], llenos[r]) todavía no se mezcló
+        private int[][] ventanas;
+        private int[] cursores, llenos;
+        private ByteBuffer lectura;
+
+        MezclaParticion(FileChannel[] corridas, int[] desde, int[] hasta, FileChannel canal, long desplazamiento,
+                        ByteOrder orden) {
+            this.corridas = corridas;
+            this.posiciones = desde.clone();
+            this.fines = hasta;
+            this.canal = canal;
+            this.desplazamiento = desplazamiento;
+            this.orden = orden;
+        }
+
+        @Override
+        protected void compute() {
+            int k = corridas.length;
+            ventanas = new int[k][];
+            cursores = new int[k];
+            llenos = new int[k];
+            lectura = ByteBuffer.allocateDirect(ELEMENTOS_POR_VENTANA * Integer.BYTES).order(orden);
+            ByteBuffer buffer = ByteBuffer.allocate(BYTES_BUFFER_SALIDA).order(orden);
+            long posicionArchivo = desplazamiento * Integer.BYTES;
+            try {
+                int[] monticulo = new int[k];
+                int tamaño = 0;
+                for (int r = 0; r < k; r++) {
+                    if (posiciones[r] < fines[r]) {
+                        ventanas[r] = new int[Math.min(ELEMENTOS_POR_VENTANA, fines[r] - posiciones[r])];
+                        rellenar(r);
+                        monticulo[tamaño++] = r;
+                    }
+                }
+                for (int i = tamaño / 2 - 1; i >= 0; i--) hundir(monticulo, i, tamaño);
+
+                while (tamaño > 0) {
+                    int r = monticulo[0];
+                    buffer.putInt(valor(r));
+                    if (++cursores[r] == llenos[r] && !rellenar(r)) {
+                        monticulo[0] = monticulo[--tamaño];
+                    }
+                    hundir(monticulo, 0, tamaño);
+
+                    if (!buffer.hasRemaining()) {
+                        posicionArchivo = vaciar(buffer, posicionArchivo);
+                    }
+                }
+                vaciar(buffer, posicionArchivo);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        // Carga en la ventana de la corrida lo que sigue de su tramo; false si ya no queda nada
+        private boolean rellenar(int corrida) throws IOException {
+            int cuantos = Math.min(ventanas[corrida].length, fines[corrida] - posiciones[corrida]);
+            if (cuantos == 0) return false;
+            lectura.clear().limit(cuantos * Integer.BYTES);
+            leerCompleto(corridas[corrida], lectura, (long) posiciones[corrida] * Integer.BYTES);
+            lectura.flip();
+            lectura.asIntBuffer().get(ventanas[corrida], 0, cuantos);
+            posiciones[corrida] += cuantos;
+            cursores[corrida] = 0;
+            llenos[corrida] = cuantos;
+            return true;
+        }
+
+        private int valor(int corrida) {
+            return ventanas[corrida][cursores[corrida]];
+        }
+
+        private void hundir(int[] monticulo, int i, int tamaño) {
+            int r = monticulo[i];
+            int valor = tamaño > 0 ? valor(r) : 0;
+            while (true) {
+                int hijo = 2 * i + 1;
+                if (hijo >= tamaño) break;
+                if (hijo + 1 < tamaño && valor(monticulo[hijo + 1]) < valor(monticulo[hijo])) hijo++;
+                if (valor(monticulo[hijo]) >= valor) break;
+                monticulo[i] = monticulo[hijo];
+                i = hijo;
+            }
+            monticulo[i] = r;
+        }
+
+        // Escritura posicional: las particiones comparten el canal sin pisarse
+        private long vaciar(ByteBuffer buffer, long posicion) throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                posicion += canal.write(buffer, posicion);
+            }
+            buffer.clear();
+            return posicion;
+        }
+    }
+
+    // Recorre la salida por bloques mapeados: debe estar ordenada y tener la misma huella que la entrada
+    public boolean verificar(Path salida, VerificacionOrdenamiento.Huella esperada) throws IOException {
+        long total = Files.size(salida) / Integer.BYTES;
+        int[] bloque = new int[(int) Math.min(elementosPorBloque, Math.max(1, total))];
+        VerificacionOrdenamiento.Huella huella = new VerificacionOrdenamiento.Huella(0, 0, 0);
+        int anterior = Integer.MIN_VALUE;
+        try (FileChannel canal = FileChannel.open(salida, StandardOpenOption.READ)) {
+            for (long posicion = 0; posicion < total; ) {
+                int largo = (int) Math.min(elementosPorBloque, total - posicion);
+                canal.map(FileChannel.MapMode.READ_ONLY, posicion * Integer.BYTES, (long) largo * Integer.BYTES)
+                     .order(orden).asIntBuffer().get(bloque, 0, largo);
+                if (bloque[0] < anterior || !VerificacionOrdenamiento.estaOrdenado(bloque, 0, largo, pool)) {
+                    return false;
+                }
+                huella = huella.combinar(VerificacionOrdenamiento.huella(bloque, 0, largo, pool));
+                anterior = bloque[largo - 1];
+                posicion += largo;
+            }
+        }
+        return huella.equals(esperada);
+    }
+
+    // Escribe un archivo de prueba bloque a bloque, con la misma memoria acotada que el ordenamiento
+    public void generarArchivo(Path archivo, long elementos, GeneradorDatos.Distribucion distribucion,
+                               long semilla) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(BYTES_BUFFER_SALIDA).order(orden);
+        try (FileChannel canal = FileChannel.open(archivo, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            IntBuffer enteros = buffer.asIntBuffer();
+            long bloqueActual = 0;
+            for (long posicion = 0; posicion < elementos; bloqueActual++) {
+                int largo = (int) Math.min(elementosPorBloque, elementos - posicion);
+                int[] datos = GeneradorDatos.generar(largo, distribucion, semilla + bloqueActual, pool);
+                for (int i = 0; i < largo; ) {
+                    int cuantos = Math.min(enteros.capacity(), largo - i);
+                    enteros.clear();
+                    enteros.put(datos, i, cuantos);
+                    buffer.clear().limit(cuantos * Integer.BYTES);
+                    while (buffer.hasRemaining()) canal.write(buffer);
+                    i += cuantos;
+                }
+                posicion += largo;
+            }
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path entrada = null, salida = null;
+        int elementosPorBloque = ELEMENTOS_POR_BLOQUE_POR_DEFECTO;
+        int umbral = MergeSortParaleloUI.MergeSortParalelo.UMBRAL_AUTOMATICO;
+        int paralelismo = Runtime.getRuntime().availableProcessors();
+        ByteOrder orden = ByteOrder.BIG_ENDIAN;
+        long generar = -1, semilla = 42;
+        boolean verificar = false;
+
+        try {
+            for (int i = 0; i < args.length; i++) {
+                String clave = args[i];
+                if (clave.equals("--verificar")) {
+                    verificar = true;
+                    continue;
+                }
+                if (i + 1 >= args.length) throw new IllegalArgumentException("Falta el valor de " + clave);
+                String valor = args[++i];
+                switch (clave) {
+                    case "--entrada":              entrada = Paths.get(valor); break;
+                    case "--salida":               salida = Paths.get(valor); break;
+                    case "--elementos-por-bloque": elementosPorBloque = Integer.parseInt(valor.replace("_", "")); break;
+                    case "--umbral":               umbral = Integer.parseInt(valor.replace("_", "")); break;
+                    case "--paralelismo":          paralelismo = Integer.parseInt(valor); break;
+                    case "--generar":              generar = Long.parseLong(valor.replace("_", "")); break;
+                    case "--semilla":              semilla = Long.parseLong(valor); break;
+                    case "--orden":
+                        if (valor.equalsIgnoreCase("big")) orden = ByteOrder.BIG_ENDIAN;
+                        else if (valor.equalsIgnoreCase("little")) orden = ByteOrder.LITTLE_ENDIAN;
+                        else throw new IllegalArgumentException("Orden de bytes desconocido: " + valor);
+                        break;
+                    default:
+                        throw new IllegalArgumentException("Argumento desconocido: " + clave);
+                }
+            }
+            if (entrada == null || salida == null) {
+                throw new IllegalArgumentException("--entrada y --salida son obligatorios");
+            }
+            if (elementosPorBloque < 1 || elementosPorBloque > MAX_ELEMENTOS_POR_BLOQUE) {
+                throw new IllegalArgumentException("--elementos-por-bloque debe estar entre 1 y " + MAX_ELEMENTOS_POR_BLOQUE);
+            }
+        } catch (IllegalArgumentException e) {
+            System.err.println("❌ " + e.getMessage());
+            System.err.println("Uso: java OrdenamientoExterno --entrada datos.bin --salida ordenado.bin "
+                    + "[--elementos-por-bloque N] [--umbral N] [--paralelismo N] [--orden big|little] "
+                    + "[--generar N] [--semilla N] [--verificar]");
+            System.exit(2);
+            return;
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(paralelismo);
+        try {
+            OrdenamientoExterno ordenamiento = new OrdenamientoExterno(pool, elementosPorBloque, umbral, orden);
+            if (generar >= 0) {
+                long inicio = System.nanoTime();
+                ordenamiento.generarArchivo(entrada, generar, GeneradorDatos.Distribucion.UNIFORME, semilla);
+                System.out.println(new Fase("Generación", generar * Integer.BYTES, System.nanoTime() - inicio));
+            }
+
+            Resultado resultado = ordenamiento.ordenar(entrada, salida);
+            resultado.fases.forEach(System.out::println);
+
+            if (verificar) {
+                long inicio = System.nanoTime();
+                boolean correcto = ordenamiento.verificar(salida, resultado.huellaEntrada);
+                System.out.println(new Fase("Verificación", Files.size(salida), System.nanoTime() - inicio));
+                System.out.println(correcto ? "✅ Salida ordenada y con los mismos valores"
+                                            : "❌ ERROR: la salida no coincide con la entrada");
+                if (!correcto) System.exit(1);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
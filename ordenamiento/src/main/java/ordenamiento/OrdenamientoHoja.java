@@ -0,0 +1,190 @@
+package ordenamiento;
+
+// Hoja de ordenamiento pensada para la caché y kernels de merge sin saltos.
+//
+// ordenar() no llama a Arrays.sort sobre toda la hoja: primero ordena grupos de 8 con una red de
+// ordenamiento (19 comparadores min/max, que el JIT compila sin saltos), después mezcla de a pares
+// dentro de bloques de BLOQUE_CACHE elementos, que con su buffer caben en la L2, y recién entonces
+// hace las pasadas sobre toda la hoja. Cada pasada alterna entre el arreglo y un buffer auxiliar.
+//
+// Los merges usan el kernel vectorial de MezclaVectorial si la JVM arrancó con
+// --add-modules jdk.incubator.vector, y si no el merge escalar sin saltos; el kernel con ramas de
+// MergeSortParalelo queda como referencia para comparar.
+public final class OrdenamientoHoja {
+
+    // 4096 int: 16 KB por buffer
+    public static final int BLOQUE_CACHE = 1 << 12;
+    private static final int GRUPO_RED = 8;
+
+    public enum KernelMezcla {
+        // El merge de siempre: una rama por elemento que el predictor falla la mitad de las veces
+        CON_RAMAS,
+        // El de modo adaptativo: copia en bloque tramos en los que gana un solo lado
+        GALOPE,
+        // La posición de cada lado avanza con aritmética sobre el resultado de la comparación
+        SIN_SALTOS,
+        // Red bitónica sobre vectores; sin el módulo jdk.incubator.vector se comporta como SIN_SALTOS
+        VECTORIAL
+    }
+
+    private static final boolean VECTORIAL_DISPONIBLE =
+            !Boolean.getBoolean("ordenamiento.sinVectores")
+            && ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+
+    private OrdenamientoHoja() {
+    }
+
+    // true si VECTORIAL usa de verdad el Vector API en esta JVM
+    public static boolean vectorialDisponible() {
+        return VECTORIAL_DISPONIBLE;
+    }
+
+    // Ordena arreglo[inicio, fin) usando aux desde inicioAux como buffer de fin - inicio elementos
+    public static void ordenar(int[] arreglo, int inicio, int fin, int[] aux, int inicioAux) {
+        int n = fin - inicio;
+        if (n < 2) return;
+
+        // Cuántas pasadas de merge hacen falta: con una cantidad impar la red escribe en aux para
+        // que la última pasada termine en arreglo
+        int pasadas = 0;
+        for (long ancho = GRUPO_RED; ancho < n; ancho <<= 1) pasadas++;
+        int[] fuente = arreglo, destino = aux;
+        int desplazamiento = inicioAux - inicio; // posición en destino menos posición en fuente
+        int inicioFuente = inicio;
+        if (pasadas % 2 == 1) {
+            ordenarGrupos(arreglo, inicio, fin, aux, inicioAux);
+            fuente = aux;
+            destino = arreglo;
+            inicioFuente = inicioAux;
+            desplazamiento = -desplazamiento;
+        } else {
+            ordenarGrupos(arreglo, inicio, fin, arreglo, inicio);
+        }
+
+        // Pasadas dentro de cada bloque de caché: todas las hojas de un bloque hacen las mismas
+        // pasadas, aunque el último bloque sea más corto, para terminar en el mismo buffer
+        int pasadasEnBloque = 0;
+        for (int ancho = GRUPO_RED; ancho < BLOQUE_CACHE && ancho < n; ancho <<= 1) pasadasEnBloque++;
+        int finFuente = inicioFuente + n;
+        for (int bloque = inicioFuente; bloque < finFuente; bloque += BLOQUE_CACHE) {
+            int hasta = Math.min(finFuente, bloque + BLOQUE_CACHE);
+            int[] f = fuente, d = destino;
+            int desde = bloque, despl = desplazamiento;
+            for (int p = 0, ancho = GRUPO_RED; p < pasadasEnBloque; p++, ancho <<= 1) {
+                pasada(f, desde, desde + (hasta - bloque), ancho, d, despl);
+                int[] t = f; f = d; d = t;
+                desde += despl;
+                despl = -despl;
+            }
+        }
+        if (pasadasEnBloque % 2 == 1) {
+            int[] t = fuente; fuente = destino; destino = t;
+            inicioFuente += desplazamiento;
+            desplazamiento = -desplazamiento;
+        }
+
+        // Pasadas sobre toda la hoja
+        for (long ancho = (long) GRUPO_RED << pasadasEnBloque; ancho < n; ancho <<= 1) {
+            pasada(fuente, inicioFuente, inicioFuente + n, (int) ancho, destino, desplazamiento);
+            int[] t = fuente; fuente = destino; destino = t;
+            inicioFuente += desplazamiento;
+            desplazamiento = -desplazamiento;
+        }
+    }
+
+    // Ordena cada grupo de 8 de fuente[desde, hasta) y lo escribe en destino desde inicioDestino; el
+    // último grupo, si es incompleto, se ordena por inserción
+    public static void ordenarGrupos(int[] fuente, int desde, int hasta, int[] destino, int inicioDestino) {
+        int k = inicioDestino;
+        int i = desde;
+        for (; i + GRUPO_RED <= hasta; i += GRUPO_RED, k += GRUPO_RED) {
+            int v0 = fuente[i], v1 = fuente[i + 1], v2 = fuente[i + 2], v3 = fuente[i + 3];
+            int v4 = fuente[i + 4], v5 = fuente[i + 5], v6 = fuente[i + 6], v7 = fuente[i + 7];
+            int t;
+            // Red óptima de 8 entradas: 19 comparadores en 6 niveles
+            t = Math.min(v0, v2); v2 = Math.max(v0, v2); v0 = t;
+            t = Math.min(v1, v3); v3 = Math.max(v1, v3); v1 = t;
+            t = Math.min(v4, v6); v6 = Math.max(v4, v6); v4 = t;
+            t = Math.min(v5, v7); v7 = Math.max(v5, v7); v5 = t;
+
+            t = Math.min(v0, v4); v4 = Math.max(v0, v4); v0 = t;
+            t = Math.min(v1, v5); v5 = Math.max(v1, v5); v1 = t;
+            t = Math.min(v2, v6); v6 = Math.max(v2, v6); v2 = t;
+            t = Math.min(v3, v7); v7 = Math.max(v3, v7); v3 = t;
+
+            t = Math.min(v0, v1); v1 = Math.max(v0, v1); v0 = t;
+            t = Math.min(v2, v3); v3 = Math.max(v2, v3); v2 = t;
+            t = Math.min(v4, v5); v5 = Math.max(v4, v5); v4 = t;
+            t = Math.min(v6, v7); v7 = Math.max(v6, v7); v6 = t;
+
+            t = Math.min(v2, v4); v4 = Math.max(v2, v4); v2 = t;
+            t = Math.min(v3, v5); v5 = Math.max(v3, v5); v3 = t;
+
+            t = Math.min(v1, v4); v4 = Math.max(v1, v4); v1 = t;
+            t = Math.min(v3, v6); v6 = Math.max(v3, v6); v3 = t;
+
+            t = Math.min(v1, v2); v2 = Math.max(v1, v2); v1 = t;
+            t = Math.min(v3, v4); v4 = Math.max(v3, v4); v3 = t;
+            t = Math.min(v5, v6); v6 = Math.max(v5, v6); v5 = t;
+
+            destino[k] = v0; destino[k + 1] = v1; destino[k + 2] = v2; destino[k + 3] = v3;
+            destino[k + 4] = v4; destino[k + 5] = v5; destino[k + 6] = v6; destino[k + 7] = v7;
+        }
+        int resto = k;
+        for (; i < hasta; i++, k++) {
+            int valor = fuente[i];
+            int j = k;
+            while (j > resto && destino[j - 1] > valor) {
+                destino[j] = destino[j - 1];
+                j--;
+            }
+            destino[j] = valor;
+        }
+    }
+
+    // Mezcla de a pares las corridas de largo ancho de fuente[desde, hasta) en destino, desplazadas
+    private static void pasada(int[] fuente, int desde, int hasta, int ancho, int[] destino, int desplazamiento) {
+        for (int a0 = desde; a0 < hasta; a0 += 2 * ancho) {
+            int a1 = Math.min(a0 + ancho, hasta);
+            int b1 = (int) Math.min((long) a0 + 2L * ancho, hasta);
+            mezclar(KernelMezcla.VECTORIAL, fuente, a0, a1, a1, b1, destino, a0 + desplazamiento);
+        }
+    }
+
+    // Mezcla fuente[a0, a1) y fuente[b0, b1) en destino a partir de la posición k con el kernel pedido
+    public static void mezclar(KernelMezcla kernel, int[] fuente, int a0, int a1, int b0, int b1,
+                               int[] destino, int k) {
+        switch (kernel) {
+            case CON_RAMAS:
+                MergeSortParaleloUI.MergeSortParalelo.mezclarSecuencial(fuente, a0, a1, b0, b1, destino, k);
+                break;
+            case GALOPE:
+                MergeSortParaleloUI.MergeSortParalelo.mezclarGalopando(fuente, a0, a1, b0, b1, destino, k);
+                break;
+            case VECTORIAL:
+                if (VECTORIAL_DISPONIBLE) {
+                    MezclaVectorial.mezclar(fuente, a0, a1, b0, b1, destino, k);
+                    break;
+                }
+                mezclarSinSaltos(fuente, a0, a1, fuente, b0, b1, destino, k);
+                break;
+            default:
+                mezclarSinSaltos(fuente, a0, a1, fuente, b0, b1, destino, k);
+        }
+    }
+
+    // Merge escalar sin saltos de a[a0, a1) y b[b0, b1): el resultado de la comparación decide qué
+    // índice avanza, sin una rama que el predictor tenga que adivinar
+    static void mezclarSinSaltos(int[] a, int a0, int a1, int[] b, int b0, int b1, int[] destino, int k) {
+        int i = a0, j = b0;
+        while (i < a1 && j < b1) {
+            int x = a[i], y = b[j];
+            int tomaA = x <= y ? 1 : 0;
+            destino[k++] = tomaA == 1 ? x : y;
+            i += tomaA;
+            j += 1 - tomaA;
+        }
+        System.arraycopy(a, i, destino, k, a1 - i);
+        System.arraycopy(b, j, destino, k + (a1 - i), b1 - j);
+    }
+}
@@ -0,0 +1,256 @@
+package ordenamiento;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+// Ordenamiento estable por clave long que arrastra un arreglo int paralelo (la carga).
+//
+// La carga puede ser un identificador de fila o, con permutacion(), la posición original de cada
+// clave; para cargas de otro tipo se ordena la permutación y después se reacomoda la carga en
+// paralelo. Mismo árbol que MergeSortParalelo con buffer alternado (umbral, umbralMerge y
+// UMBRAL_AUTOMATICO igual que allí), pero las hojas no usan Arrays.sort, que no es estable ni
+// mueve la carga: ordenan con un merge sort secuencial sobre los mismos buffers.
+public class OrdenamientoPorClave extends RecursiveAction {
+
+    // Por debajo de este tamaño las hojas ordenan por inserción
+    private static final int UMBRAL_INSERCION = 32;
+    private static final int BLOQUE_REORDENAMIENTO = 1 << 16;
+
+    private final long[] claves, clavesOrigen;
+    private final int[] carga, cargaOrigen;
+    private final int inicio, fin;
+    private int umbral;
+    private final int umbralMerge;
+
+    public OrdenamientoPorClave(long[] claves, int[] carga, int inicio, int fin, int umbral) {
+        this(claves, carga, inicio, fin, umbral, MergeSortParaleloUI.MergeSortParalelo.UMBRAL_MERGE_POR_DEFECTO);
+    }
+
+    public OrdenamientoPorClave(long[] claves, int[] carga, int inicio, int fin, int umbral, int umbralMerge) {
+        this(claves, carga, null, null, inicio, fin, umbral, umbralMerge);
+        if (carga.length < fin) {
+            throw new IllegalArgumentException("La carga tiene " + carga.length
+                                               + " elementos y se ordena hasta " + fin);
+        }
+    }
+
+    private OrdenamientoPorClave(long[] claves, int[] carga, long[] clavesOrigen, int[] cargaOrigen,
+                                 int inicio, int fin, int umbral, int umbralMerge) {
+        this.claves = claves;
+        this.carga = carga;
+        this.clavesOrigen = clavesOrigen;
+        this.cargaOrigen = cargaOrigen;
+        this.inicio = inicio;
+        this.fin = fin;
+        this.umbral = umbral;
+        this.umbralMerge = umbralMerge;
+    }
+
+    // Índices que ordenan las claves de forma estable; las claves no se modifican
+    public static int[] permutacion(long[] claves, int umbral, ForkJoinPool pool) {
+        return ordenarConIndices(claves.clone(), umbral, pool);
+    }
+
+    // Ordena las claves y reacomoda una carga long en el mismo orden
+    public static void ordenar(long[] claves, long[] carga, int umbral, ForkJoinPool pool) {
+        comprobarLargos(claves.length, carga.length);
+        int[] indices = ordenarConIndices(claves, umbral, pool);
+        pool.invoke(new ReordenarLong(indices, carga.clone(), carga, 0, indices.length));
+    }
+
+    // Ordena las claves y reacomoda una carga double en el mismo orden
+    public static void ordenar(long[] claves, double[] carga, int umbral, ForkJoinPool pool) {
+        comprobarLargos(claves.length, carga.length);
+        int[] indices = ordenarConIndices(claves, umbral, pool);
+        pool.invoke(new ReordenarDouble(indices, carga.clone(), carga, 0, indices.length));
+    }
+
+    // Antes de tocar las claves: si no, una carga corta fallaría con las claves ya ordenadas y
+    // desfasadas de su carga
+    private static void comprobarLargos(int claves, int carga) {
+        if (carga != claves) {
+            throw new IllegalArgumentException("La carga tiene " + carga + " elementos y las claves " + claves);
+        }
+    }
+
+    private static int[] ordenarConIndices(long[] claves, int umbral, ForkJoinPool pool) {
+        int[] indices = new int[claves.length];
+        for (int i = 0; i < indices.length; i++) indices[i] = i;
+        pool.invoke(new OrdenamientoPorClave(claves, indices, 0, claves.length, umbral));
+        return indices;
+    }
+
+    @Override
+    protected void compute() {
+        if (clavesOrigen == null) {
+            umbral = MergeSortParaleloLong.resolverUmbral(umbral, fin - inicio, getPool());
+            // Única reserva de memoria de todo el ordenamiento: un buffer por arreglo
+            long[] clavesAux = new long[claves.length];
+            int[] cargaAux = new int[carga.length];
+            System.arraycopy(claves, inicio, clavesAux, inicio, fin - inicio);
+            System.arraycopy(carga, inicio, cargaAux, inicio, fin - inicio);
+            new OrdenamientoPorClave(claves, carga, clavesAux, cargaAux, inicio, fin, umbral, umbralMerge).compute();
+            return;
+        }
+
+        if (fin - inicio <= umbral) {
+            ordenarSecuencial(claves, carga, clavesOrigen, cargaOrigen, inicio, fin);
+            return;
+        }
+
+        int medio = (inicio + fin) >>> 1;
+        // Los hijos dejan sus mitades ordenadas en los buffers de origen
+        invokeAll(new OrdenamientoPorClave(clavesOrigen, cargaOrigen, claves, carga, inicio, medio,
+                                           umbral, umbralMerge),
+                  new OrdenamientoPorClave(clavesOrigen, cargaOrigen, claves, carga, medio, fin,
+                                           umbral, umbralMerge));
+        if (umbralMerge > 0 && fin - inicio > umbralMerge) {
+            new MergeParalelo(clavesOrigen, cargaOrigen, inicio, medio, medio, fin, claves, carga, inicio,
+                              umbralMerge).invoke();
+        } else {
+            mezclar(clavesOrigen, cargaOrigen, inicio, medio, medio, fin, claves, carga, inicio);
+        }
+    }
+
+    // Merge sort secuencial con la misma alternancia de buffers: deja [desde, hasta) ordenado en
+    // claves/carga usando clavesOrigen/cargaOrigen, que al entrar tienen los mismos datos
+    private static void ordenarSecuencial(long[] claves, int[] carga, long[] clavesOrigen, int[] cargaOrigen,
+                                          int desde, int hasta) {
+        if (hasta - desde <= UMBRAL_INSERCION) {
+            for (int i = desde + 1; i < hasta; i++) {
+                long clave = claves[i];
+                int valor = carga[i];
+                int j = i;
+                while (j > desde && claves[j - 1] > clave) {
+                    claves[j] = claves[j - 1];
+                    carga[j] = carga[j - 1];
+                    j--;
+                }
+                claves[j] = clave;
+                carga[j] = valor;
+            }
+            return;
+        }
+        int medio = (desde + hasta) >>> 1;
+        ordenarSecuencial(clavesOrigen, cargaOrigen, claves, carga, desde, medio);
+        ordenarSecuencial(clavesOrigen, cargaOrigen, claves, carga, medio, hasta);
+        mezclar(clavesOrigen, cargaOrigen, desde, medio, medio, hasta, claves, carga, desde);
+    }
+
+    // Ante claves iguales gana la corrida izquierda: eso hace estable al ordenamiento
+    static void mezclar(long[] claves, int[] carga, int a0, int a1, int b0, int b1,
+                        long[] clavesDestino, int[] cargaDestino, int k) {
+        int i = a0, j = b0;
+        while (i < a1 && j < b1) {
+            if (claves[i] <= claves[j]) {
+                clavesDestino[k] = claves[i];
+                cargaDestino[k++] = carga[i++];
+            } else {
+                clavesDestino[k] = claves[j];
+                cargaDestino[k++] = carga[j++];
+            }
+        }
+        System.arraycopy(claves, i, clavesDestino, k, a1 - i);
+        System.arraycopy(carga, i, cargaDestino, k, a1 - i);
+        k += a1 - i;
+        System.arraycopy(claves, j, clavesDestino, k, b1 - j);
+        System.arraycopy(carga, j, cargaDestino, k, b1 - j);
+    }
+
+    // Igual que MergeSortParalelo.MergeParalelo: los empates quedan del lado izquierdo
+    static class MergeParalelo extends RecursiveAction {
+        private final long[] claves, clavesDestino;
+        private final int[] carga, cargaDestino;
+        private final int a0, a1, b0, b1, k;
+        private final int umbralMerge;
+
+        MergeParalelo(long[] claves, int[] carga, int a0, int a1, int b0, int b1,
+                      long[] clavesDestino, int[] cargaDestino, int k, int umbralMerge) {
+            this.claves = claves;
+            this.carga = carga;
+            this.a0 = a0;
+            this.a1 = a1;
+            this.b0 = b0;
+            this.b1 = b1;
+            this.clavesDestino = clavesDestino;
+            this.cargaDestino = cargaDestino;
+            this.k = k;
+            this.umbralMerge = umbralMerge;
+        }
+
+        @Override
+        protected void compute() {
+            int largoA = a1 - a0, largoB = b1 - b0;
+            if (largoA + largoB <= Math.max(umbralMerge, 2) || largoA == 0 || largoB == 0) {
+                mezclar(claves, carga, a0, a1, b0, b1, clavesDestino, cargaDestino, k);
+                return;
+            }
+
+            int corteA, corteB;
+            if (largoA >= largoB) {
+                corteA = (a0 + a1) >>> 1;
+                corteB = MergeSortParaleloLong.cotaInferior(claves, b0, b1, claves[corteA]);
+            } else {
+                corteB = (b0 + b1) >>> 1;
+                corteA = MergeSortParaleloLong.cotaSuperior(claves, a0, a1, claves[corteB]);
+            }
+
+            int kDerecha = k + (corteA - a0) + (corteB - b0);
+            invokeAll(new MergeParalelo(claves, carga, a0, corteA, b0, corteB, clavesDestino, cargaDestino, k,
+                                        umbralMerge),
+                      new MergeParalelo(claves, carga, corteA, a1, corteB, b1, clavesDestino, cargaDestino, kDerecha,
+                                        umbralMerge));
+        }
+    }
+
+    // destino[i] = fuente[indices[i]], por bloques en paralelo
+    static class ReordenarLong extends RecursiveAction {
+        private final int[] indices;
+        private final long[] fuente, destino;
+        private final int inicio, fin;
+
+        ReordenarLong(int[] indices, long[] fuente, long[] destino, int inicio, int fin) {
+            this.indices = indices;
+            this.fuente = fuente;
+            this.destino = destino;
+            this.inicio = inicio;
+            this.fin = fin;
+        }
+
+        @Override
+        protected void compute() {
+            if (fin - inicio <= BLOQUE_REORDENAMIENTO) {
+                for (int i = inicio; i < fin; i++) destino[i] = fuente[indices[i]];
+                return;
+            }
+            int medio = (inicio + fin) >>> 1;
+            invokeAll(new ReordenarLong(indices, fuente, destino, inicio, medio),
+                      new ReordenarLong(indices, fuente, destino, medio, fin));
+        }
+    }
+
+    static class ReordenarDouble extends RecursiveAction {
+        private final int[] indices;
+        private final double[] fuente, destino;
+        private final int inicio, fin;
+
+        ReordenarDouble(int[] indices, double[] fuente, double[] destino, int inicio, int fin) {
+            this.indices = indices;
+            this.fuente = fuente;
+            this.destino = destino;
+            this.inicio = inicio;
+            this.fin = fin;
+        }
+
+        @Override
+        protected void compute() {
+            if (fin - inicio <= BLOQUE_REORDENAMIENTO) {
+                for (int i = inicio; i < fin; i++) destino[i] = fuente[indices[i]];
+                return;
+            }
+            int medio = (inicio + fin) >>> 1;
+            invokeAll(new ReordenarDouble(indices, fuente, destino, inicio, medio),
+                      new ReordenarDouble(indices, fuente, destino, medio, fin));
+        }
+    }
+}
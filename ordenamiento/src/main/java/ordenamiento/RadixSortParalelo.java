@@ -0,0 +1,167 @@
+package ordenamiento;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+
+// Radix sort LSD paralelo para claves int.
+//
+// Las claves se ordenan como (valor - mínimo) sin signo, así los negativos funcionan y la cantidad
+// de pasadas depende del rango real de los datos: 0..1,000,000 ocupa 20 bits y se ordena en dos
+// pasadas de 10 bits. En cada pasada cada bloque cuenta sus dígitos en su propio histograma, las
+// sumas prefijas dan a cada bloque su posición de escritura y los bloques dispersan en paralelo
+// sobre un único buffer auxiliar que se reutiliza en todas las pasadas.
+public class RadixSortParalelo extends RecursiveAction {
+
+    private static final int BITS_MAXIMOS_POR_PASADA = 11;
+    private static final int BLOQUES_POR_NUCLEO = 4;
+
+    private final int[] arreglo;
+    private final int inicio, fin;
+    private final int umbral;
+
+    // umbral: tamaño mínimo de bloque por tarea, como el umbral secuencial de MergeSortParalelo
+    public RadixSortParalelo(int[] arreglo, int inicio, int fin, int umbral) {
+        this.arreglo = arreglo;
+        this.inicio = inicio;
+        this.fin = fin;
+        this.umbral = Math.max(1, umbral);
+    }
+
+    @Override
+    protected void compute() {
+        int n = fin - inicio;
+        if (n < 2) return;
+
+        ForkJoinPool pool = getPool();
+        int paralelismo = pool != null ? pool.getParallelism() : ForkJoinPool.getCommonPoolParallelism();
+        int bloques = (int) Math.max(1, Math.min((n + (long) umbral - 1) / umbral,
+                                                 (long) paralelismo * BLOQUES_POR_NUCLEO));
+        int tamañoBloque = (n + bloques - 1) / bloques;
+
+        long[] extremos = new MinMax(arreglo, inicio, fin, tamañoBloque).invoke();
+        int minimo = (int) extremos[0];
+        long rango = extremos[1] - extremos[0];
+        if (rango == 0) return;
+
+        int bits = 64 - Long.numberOfLeadingZeros(rango);
+        int pasadas = (bits + BITS_MAXIMOS_POR_PASADA - 1) / BITS_MAXIMOS_POR_PASADA;
+        int bitsPorPasada = (bits + pasadas - 1) / pasadas;
+
+        int[] fuente = arreglo, destino = new int[n];
+        int desplFuente = inicio, desplDestino = 0;
+        int[][] histogramas = new int[bloques][1 << bitsPorPasada];
+
+        for (int pasada = 0; pasada < pasadas; pasada++) {
+            int desplazamiento = pasada * bitsPorPasada;
+            List<Bloque> tareas = new ArrayList<>(bloques);
+            for (int b = 0; b < bloques; b++) {
+                int desde = (int) ((long) n * b / bloques);
+                int hasta = (int) ((long) n * (b + 1) / bloques);
+                tareas.add(new Bloque(fuente, desplFuente + desde, desplFuente + hasta, histogramas[b],
+                                      minimo, desplazamiento, bitsPorPasada));
+            }
+
+            invokeAll(tareas);
+            sumasPrefijas(histogramas, desplDestino);
+            for (Bloque tarea : tareas) {
+                tarea.reinitialize();
+                tarea.dispersarEn(destino);
+            }
+            invokeAll(tareas);
+
+            int[] t = fuente; fuente = destino; destino = t;
+            int d = desplFuente; desplFuente = desplDestino; desplDestino = d;
+        }
+
+        if (fuente != arreglo) {
+            System.arraycopy(fuente, desplFuente, arreglo, inicio, n);
+        }
+    }
+
+    // Convierte los conteos por bloque en la primera posición de escritura de cada bloque y dígito:
+    // primero van todos los dígitos menores y, dentro de un dígito, los bloques anteriores (estable)
+    private static void sumasPrefijas(int[][] histogramas, int base) {
+        int posicion = base;
+        int digitos = histogramas[0].length;
+        for (int d = 0; d < digitos; d++) {
+            for (int[] histograma : histogramas) {
+                int conteo = histograma[d];
+                histograma[d] = posicion;
+                posicion += conteo;
+            }
+        }
+    }
+
+    // Un bloque de una pasada: primero cuenta sus dígitos y, ya con las posiciones, dispersa
+    static class Bloque extends RecursiveAction {
+        private final int[] fuente;
+        private final int desde, hasta;
+        private final int[] histograma;
+        private final int minimo, desplazamiento, mascara;
+        private int[] destino; // null mientras cuenta
+
+        Bloque(int[] fuente, int desde, int hasta, int[] histograma, int minimo, int desplazamiento, int bits) {
+            this.fuente = fuente;
+            this.desde = desde;
+            this.hasta = hasta;
+            this.histograma = histograma;
+            this.minimo = minimo;
+            this.desplazamiento = desplazamiento;
+            this.mascara = (1 << bits) - 1;
+        }
+
+        void dispersarEn(int[] destino) {
+            this.destino = destino;
+        }
+
+        @Override
+        protected void compute() {
+            if (destino == null) {
+                Arrays.fill(histograma, 0);
+                for (int i = desde; i < hasta; i++) {
+                    histograma[((fuente[i] - minimo) >>> desplazamiento) & mascara]++;
+                }
+            } else {
+                for (int i = desde; i < hasta; i++) {
+                    int valor = fuente[i];
+                    destino[histograma[((valor - minimo) >>> desplazamiento) & mascara]++] = valor;
+                }
+            }
+        }
+    }
+
+    // Mínimo y máximo del rango, como long para poder restar sin desbordar
+    static class MinMax extends RecursiveTask<long[]> {
+        private final int[] arreglo;
+        private final int inicio, fin, umbral;
+
+        MinMax(int[] arreglo, int inicio, int fin, int umbral) {
+            this.arreglo = arreglo;
+            this.inicio = inicio;
+            this.fin = fin;
+            this.umbral = umbral;
+        }
+
+        @Override
+        protected long[] compute() {
+            if (fin - inicio <= umbral) {
+                int minimo = Integer.MAX_VALUE, maximo = Integer.MIN_VALUE;
+                for (int i = inicio; i < fin; i++) {
+                    minimo = Math.min(minimo, arreglo[i]);
+                    maximo = Math.max(maximo, arreglo[i]);
+                }
+                return new long[]{minimo, maximo};
+            }
+            int medio = (inicio + fin) >>> 1;
+            MinMax izquierda = new MinMax(arreglo, inicio, medio, umbral);
+            izquierda.fork();
+            long[] derecha = new MinMax(arreglo, medio, fin, umbral).compute();
+            long[] otra = izquierda.join();
+            return new long[]{Math.min(otra[0], derecha[0]), Math.max(otra[1], derecha[1])};
+        }
+    }
+}
@@ -0,0 +1,262 @@
+package ordenamiento;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+// Sample sort paralelo para claves int.
+//
+// Una muestra del arreglo da los divisores que reparten los elementos en cubetas; cada bloque
+// clasifica sus elementos en paralelo sobre un buffer auxiliar y luego cada cubeta se ordena por su
+// cuenta y vuelve al arreglo. Los datos se mueven dos veces en total, sin merges por niveles.
+// Cada divisor tiene además su cubeta de iguales: con muchas claves repetidas esos elementos caen
+// ahí y no necesitan ordenarse, así ninguna cubeta de rango se sobrecarga.
+public class SampleSortParalelo extends RecursiveAction {
+
+    private static final int CUBETAS_POR_NUCLEO = 4;
+    private static final int SOBREMUESTREO = 32;     // muestras por cubeta
+    private static final int DESBALANCE_MAXIMO = 4;  // una cubeta más grande que esto se reparte de nuevo
+
+    private final int[] arreglo;
+    private final int inicio, fin;
+    private int umbral;
+    private MetricasOrdenamiento metricas; // null: sin instrumentación
+    private final boolean raiz;
+
+    // umbral: mismo significado que en MergeSortParalelo; UMBRAL_AUTOMATICO usa el calibrado
+    public SampleSortParalelo(int[] arreglo, int inicio, int fin, int umbral) {
+        this(arreglo, inicio, fin, umbral, null, true);
+    }
+
+    private SampleSortParalelo(int[] arreglo, int inicio, int fin, int umbral, MetricasOrdenamiento metricas,
+                               boolean raiz) {
+        this.arreglo = arreglo;
+        this.inicio = inicio;
+        this.fin = fin;
+        this.umbral = umbral;
+        this.metricas = metricas;
+        this.raiz = raiz;
+    }
+
+    // Registra el avance en metricas; llamar antes de invocar la tarea
+    public SampleSortParalelo conMetricas(MetricasOrdenamiento metricas) {
+        this.metricas = metricas;
+        return this;
+    }
+
+    @Override
+    protected void compute() {
+        int n = fin - inicio;
+        ForkJoinPool pool = getPool();
+        int paralelismo = pool != null ? pool.getParallelism() : ForkJoinPool.getCommonPoolParallelism();
+        if (umbral <= MergeSortParaleloUI.MergeSortParalelo.UMBRAL_AUTOMATICO) {
+            umbral = AjusteUmbral.umbralPara(n, paralelismo);
+        }
+        if (raiz && metricas != null) {
+            // Sin niveles de merge: todo el avance lo reportan las cubetas
+            metricas.iniciar(n, Math.max(umbral, n));
+        }
+
+        if (n <= umbral) {
+            ordenarCubeta(arreglo, inicio, fin);
+            return;
+        }
+
+        Clasificador clasificador = new Clasificador(elegirDivisores(n, paralelismo));
+        int cubetas = clasificador.cubetas();
+        int bloques = (int) Math.max(1, Math.min((n + (long) umbral - 1) / umbral,
+                                                 (long) paralelismo * CUBETAS_POR_NUCLEO));
+        int[] aux = new int[n];
+        int[][] histogramas = new int[bloques][cubetas];
+
+        List<Bloque> tareas = new ArrayList<>(bloques);
+        for (int b = 0; b < bloques; b++) {
+            int desde = inicio + (int) ((long) n * b / bloques);
+            int hasta = inicio + (int) ((long) n * (b + 1) / bloques);
+            tareas.add(new Bloque(arreglo, desde, hasta, clasificador, histogramas[b]));
+        }
+        invokeAll(tareas);
+
+        // Límites de cada cubeta en aux antes de convertir los histogramas en posiciones de escritura
+        int[] limites = new int[cubetas + 1];
+        for (int c = 0; c < cubetas; c++) {
+            int conteo = 0;
+            for (int[] histograma : histogramas) conteo += histograma[c];
+            limites[c + 1] = limites[c] + conteo;
+        }
+        sumasPrefijas(histogramas);
+        for (Bloque tarea : tareas) {
+            tarea.reinitialize();
+            tarea.dispersarEn(aux);
+        }
+        invokeAll(tareas);
+
+        int cubetasDeRango = clasificador.divisores.length + 1;
+        int tamañoEsperado = (n + cubetasDeRango - 1) / cubetasDeRango;
+        List<Cubeta> ordenar = new ArrayList<>(cubetas);
+        for (int c = 0; c < cubetas; c++) {
+            if (limites[c + 1] > limites[c]) {
+                boolean iguales = (c & 1) == 1;
+                ordenar.add(new Cubeta(aux, limites[c], limites[c + 1], iguales, tamañoEsperado));
+            }
+        }
+        invokeAll(ordenar);
+    }
+
+    // Divisores distintos y ordenados tomados de una muestra aleatoria del rango
+    private int[] elegirDivisores(int n, int paralelismo) {
+        int cubetasDeRango = (int) Math.max(2, Math.min((n + (long) umbral - 1) / umbral,
+                                                        (long) paralelismo * CUBETAS_POR_NUCLEO));
+        int tamañoMuestra = (int) Math.min(n, (long) cubetasDeRango * SOBREMUESTREO);
+        SplittableRandom aleatorio = new SplittableRandom();
+        int[] muestra = new int[tamañoMuestra];
+        for (int i = 0; i < tamañoMuestra; i++) {
+            muestra[i] = arreglo[inicio + aleatorio.nextInt(n)];
+        }
+        Arrays.sort(muestra);
+
+        int[] divisores = new int[cubetasDeRango - 1];
+        int distintos = 0;
+        for (int c = 1; c < cubetasDeRango; c++) {
+            int divisor = muestra[(int) ((long) tamañoMuestra * c / cubetasDeRango)];
+            if (distintos == 0 || divisores[distintos - 1] != divisor) {
+                divisores[distintos++] = divisor;
+            }
+        }
+        return Arrays.copyOf(divisores, distintos);
+    }
+
+    // Divisores en un árbol binario implícito (orden de Eytzinger): clasificar un elemento son log2(k)
+    // pasos sin saltos impredecibles, en vez de una búsqueda binaria con una rama por nivel
+    static final class Clasificador {
+        private final int[] divisores;
+        private final int[] arbol;
+        private final int hojas, niveles;
+
+        Clasificador(int[] divisores) {
+            this.divisores = divisores;
+            // Se rellena con el divisor mayor hasta completar el árbol; ver cubeta()
+            hojas = Integer.highestOneBit(divisores.length) << 1;
+            niveles = Integer.numberOfTrailingZeros(hojas);
+            int[] relleno = Arrays.copyOf(divisores, hojas - 1);
+            Arrays.fill(relleno, divisores.length, hojas - 1, divisores[divisores.length - 1]);
+            arbol = new int[hojas];
+            llenar(relleno, 0, hojas - 1, 1);
+        }
+
+        private void llenar(int[] ordenados, int desde, int hasta, int nodo) {
+            if (desde >= hasta) return;
+            int medio = (desde + hasta) >>> 1;
+            arbol[nodo] = ordenados[medio];
+            llenar(ordenados, desde, medio, 2 * nodo);
+            llenar(ordenados, medio + 1, hasta, 2 * nodo + 1);
+        }
+
+        int cubetas() {
+            return 2 * divisores.length + 1;
+        }
+
+        // Cubeta 2j: valores entre divisores[j - 1] y divisores[j] (exclusivo); 2j + 1: iguales a divisores[j]
+        int cubeta(int valor) {
+            int nodo = 1;
+            for (int nivel = 0; nivel < niveles; nivel++) {
+                nodo = 2 * nodo + (valor > arbol[nodo] ? 1 : 0);
+            }
+            // Divisores menores que el valor; el relleno solo cuenta si el valor supera al mayor
+            int j = Math.min(nodo - hojas, divisores.length);
+            return j < divisores.length && divisores[j] == valor ? 2 * j + 1 : 2 * j;
+        }
+    }
+
+    // Igual que en RadixSortParalelo: por cubeta y, dentro de una cubeta, por bloque
+    private static void sumasPrefijas(int[][] histogramas) {
+        int posicion = 0;
+        int cubetas = histogramas[0].length;
+        for (int c = 0; c < cubetas; c++) {
+            for (int[] histograma : histogramas) {
+                int conteo = histograma[c];
+                histograma[c] = posicion;
+                posicion += conteo;
+            }
+        }
+    }
+
+    private void ordenarCubeta(int[] datos, int desde, int hasta) {
+        EventoFase evento = new EventoFase(EventoFase.HOJA, hasta - desde);
+        evento.begin();
+        long t0 = metricas != null ? System.nanoTime() : 0;
+        Arrays.sort(datos, desde, hasta);
+        if (metricas != null) {
+            metricas.registrarHoja(hasta - desde, System.nanoTime() - t0);
+        }
+        evento.commit();
+    }
+
+    // Un bloque del arreglo: primero cuenta cuántos elementos van a cada cubeta y luego los dispersa
+    static class Bloque extends RecursiveAction {
+        private final int[] fuente;
+        private final int desde, hasta;
+        private final Clasificador clasificador;
+        private final int[] histograma;
+        private int[] destino; // null mientras cuenta
+
+        Bloque(int[] fuente, int desde, int hasta, Clasificador clasificador, int[] histograma) {
+            this.fuente = fuente;
+            this.desde = desde;
+            this.hasta = hasta;
+            this.clasificador = clasificador;
+            this.histograma = histograma;
+        }
+
+        void dispersarEn(int[] destino) {
+            this.destino = destino;
+        }
+
+        @Override
+        protected void compute() {
+            if (destino == null) {
+                for (int i = desde; i < hasta; i++) {
+                    histograma[clasificador.cubeta(fuente[i])]++;
+                }
+            } else {
+                for (int i = desde; i < hasta; i++) {
+                    int valor = fuente[i];
+                    destino[histograma[clasificador.cubeta(valor)]++] = valor;
+                }
+            }
+        }
+    }
+
+    // Ordena una cubeta en aux y la copia a su lugar definitivo en el arreglo
+    class Cubeta extends RecursiveAction {
+        private final int[] aux;
+        private final int desde, hasta;
+        private final boolean iguales;
+        private final int tamañoEsperado;
+
+        Cubeta(int[] aux, int desde, int hasta, boolean iguales, int tamañoEsperado) {
+            this.aux = aux;
+            this.desde = desde;
+            this.hasta = hasta;
+            this.iguales = iguales;
+            this.tamañoEsperado = tamañoEsperado;
+        }
+
+        @Override
+        protected void compute() {
+            int largo = hasta - desde;
+            if (iguales) {
+                if (metricas != null) metricas.registrarHoja(largo, 0);
+            } else if (largo > umbral && largo > (long) DESBALANCE_MAXIMO * tamañoEsperado) {
+                // Muestra desafortunada: la cubeta se reparte otra vez en lugar de ordenarla en un solo hilo
+                new SampleSortParalelo(aux, desde, hasta, umbral, metricas, false).compute();
+            } else {
+                ordenarCubeta(aux, desde, hasta);
+            }
+            System.arraycopy(aux, desde, arreglo, inicio + desde, largo);
+        }
+    }
+}
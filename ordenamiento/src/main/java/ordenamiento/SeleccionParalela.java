@@ -0,0 +1,324 @@
+package ordenamiento;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Top-k y n-ésimo elemento en paralelo, sin ordenar el arreglo completo.
+//
+// nEsimo() es una selección por muestreo (estilo Floyd-Rivest): dos pivotes tomados de una muestra
+// alrededor del rango buscado dejan en el medio una franja chica que casi seguro lo contiene; los
+// bloques cuentan en paralelo cuántos elementos caen a cada lado y solo se copia la parte que puede
+// contener la respuesta. Cada ronda descarta casi todo, así que el costo total es O(n).
+//
+// menores() con k chico usa un heap acotado por hoja: cada hoja guarda sus k menores y comparte en
+// una cota global el tope de su heap lleno, de modo que las demás descartan sin tocar el heap casi
+// todos sus elementos; al final los resultados de las hojas se mezclan truncando a k. Con k grande
+// busca el k-ésimo con nEsimo(), junta los menores en paralelo y ordena solo esos k elementos.
+// En ambos casos el arreglo de entrada no se modifica.
+public final class SeleccionParalela {
+
+    private static final int BLOQUES_POR_NUCLEO = 4;
+    private static final int MUESTRA = 1024;
+    // Por debajo de este tamaño la franja que queda se ordena directamente
+    private static final int UMBRAL_SECUENCIAL = 4096;
+    // Cada cuántos elementos una hoja relee y publica la cota global
+    private static final int REFRESCO_COTA = 4096;
+    // Con k mayor el heap por hoja deja de convenir frente a la partición
+    private static final int K_MAXIMO_HEAP = 4096;
+
+    private static final int MENORES = 0, FRANJA = 1, MAYORES = 2;
+
+    private SeleccionParalela() {
+    }
+
+    // Los k menores elementos en orden ascendente (todos, ordenados, si k >= arreglo.length)
+    public static int[] menores(int[] arreglo, int k, int umbral, ForkJoinPool pool) {
+        int n = arreglo.length;
+        if (k <= 0) return new int[0];
+        if (k >= n) {
+            int[] copia = arreglo.clone();
+            pool.invoke(new MergeSortParaleloUI.MergeSortParalelo(copia, 0, n, umbral));
+            return copia;
+        }
+
+        umbral = MergeSortParaleloLong.resolverUmbral(umbral, n, pool);
+        int tamañoBloque = tamañoBloque(n, umbral, pool);
+        if (k <= K_MAXIMO_HEAP && k <= tamañoBloque / 16) {
+            AtomicLong cota = new AtomicLong(Long.MAX_VALUE);
+            return pool.invoke(new TopK(arreglo, 0, n, k, tamañoBloque, cota));
+        }
+
+        // Hay exactamente k elementos <= pivote si se completa con copias del pivote lo que falte
+        int pivote = nEsimo(arreglo, k - 1, umbral, pool);
+        int[] resultado = new int[k];
+        int copiados = extraer(arreglo, 0, n, pivote, pivote, MENORES, resultado, tamañoBloque, pool);
+        Arrays.fill(resultado, copiados, k, pivote);
+        pool.invoke(new MergeSortParaleloUI.MergeSortParalelo(resultado, 0, k, umbral));
+        return resultado;
+    }
+
+    // El elemento que quedaría en la posición rango si se ordenara el arreglo
+    public static int nEsimo(int[] arreglo, int rango, int umbral, ForkJoinPool pool) {
+        if (rango < 0 || rango >= arreglo.length) {
+            throw new IllegalArgumentException("Rango " + rango + " fuera de [0, " + arreglo.length + ")");
+        }
+        umbral = MergeSortParaleloLong.resolverUmbral(umbral, arreglo.length, pool);
+        SplittableRandom aleatorio = new SplittableRandom();
+
+        int[] actual = arreglo;
+        int n = arreglo.length;
+        boolean unSoloPivote = false;
+        while (n > UMBRAL_SECUENCIAL) {
+            int tamañoMuestra = Math.min(MUESTRA, n);
+            int[] muestra = new int[tamañoMuestra];
+            for (int i = 0; i < tamañoMuestra; i++) {
+                muestra[i] = actual[aleatorio.nextInt(n)];
+            }
+            Arrays.sort(muestra);
+
+            // Franja de ~2·sqrt(muestra) alrededor del rango escalado; si la ronda anterior no
+            // avanzó (muchos repetidos) se parte en tres con un único pivote
+            int posicion = (int) ((long) rango * tamañoMuestra / n);
+            int delta = unSoloPivote ? 0 : 2 * (int) Math.sqrt(tamañoMuestra);
+            int bajo = muestra[Math.max(0, posicion - delta)];
+            int alto = muestra[Math.min(tamañoMuestra - 1, posicion + delta)];
+
+            int tamañoBloque = tamañoBloque(n, umbral, pool);
+            List<Particion> bloques = particionar(actual, 0, n, bajo, alto, tamañoBloque);
+            pool.invoke(new Fase(bloques));
+            long menores = 0, franja = 0;
+            for (Particion bloque : bloques) {
+                menores += bloque.conteos[MENORES];
+                franja += bloque.conteos[FRANJA];
+            }
+
+            int lado;
+            if (rango < menores) {
+                lado = MENORES;
+            } else if (rango < menores + franja) {
+                if (bajo == alto) return bajo;
+                lado = FRANJA;
+                rango -= menores;
+            } else {
+                lado = MAYORES;
+                rango -= menores + franja;
+            }
+
+            // Si todo quedó del mismo lado no se copia nada: la próxima ronda reparte con un único pivote
+            int tamañoLado = (int) (lado == MENORES ? menores : lado == FRANJA ? franja : n - menores - franja);
+            unSoloPivote = tamañoLado == n;
+            if (unSoloPivote) continue;
+            int[] siguiente = new int[tamañoLado];
+            copiar(bloques, lado, siguiente, pool);
+            actual = siguiente;
+            n = siguiente.length;
+        }
+
+        int[] resto = actual == arreglo ? Arrays.copyOf(arreglo, n) : actual;
+        Arrays.sort(resto, 0, n);
+        return resto[rango];
+    }
+
+    private static int tamañoBloque(int n, int umbral, ForkJoinPool pool) {
+        int bloques = (int) Math.max(1, Math.min((n + (long) umbral - 1) / umbral,
+                                                 (long) pool.getParallelism() * BLOQUES_POR_NUCLEO));
+        return (n + bloques - 1) / bloques;
+    }
+
+    private static List<Particion> particionar(int[] fuente, int inicio, int fin, int bajo, int alto,
+                                               int tamañoBloque) {
+        List<Particion> bloques = new ArrayList<>();
+        for (int desde = inicio; desde < fin; desde += tamañoBloque) {
+            bloques.add(new Particion(fuente, desde, Math.min(fin, desde + tamañoBloque), bajo, alto));
+        }
+        return bloques;
+    }
+
+    // Copia a destino los elementos del lado pedido; devuelve cuántos copió
+    private static int extraer(int[] fuente, int inicio, int fin, int bajo, int alto, int lado, int[] destino,
+                               int tamañoBloque, ForkJoinPool pool) {
+        List<Particion> bloques = particionar(fuente, inicio, fin, bajo, alto, tamañoBloque);
+        pool.invoke(new Fase(bloques));
+        return copiar(bloques, lado, destino, pool);
+    }
+
+    // Suma prefija de los conteos del lado y copia en paralelo: cada bloque escribe en su tramo
+    private static int copiar(List<Particion> bloques, int lado, int[] destino, ForkJoinPool pool) {
+        int posicion = 0;
+        for (Particion bloque : bloques) {
+            int conteo = bloque.conteos[lado];
+            bloque.reinitialize();
+            bloque.copiarEn(destino, lado, posicion);
+            posicion += conteo;
+        }
+        pool.invoke(new Fase(bloques));
+        return posicion;
+    }
+
+    // Lanza todos los bloques de una fase y espera a que terminen
+    private static class Fase extends RecursiveAction {
+        private final List<Particion> bloques;
+
+        Fase(List<Particion> bloques) {
+            this.bloques = bloques;
+        }
+
+        @Override
+        protected void compute() {
+            invokeAll(bloques);
+        }
+    }
+
+    // Un bloque de una ronda: primero cuenta cuántos elementos caen bajo, dentro y sobre la franja
+    // [bajo, alto] y, ya con su posición de escritura, copia solo los del lado elegido
+    static class Particion extends RecursiveAction {
+        private final int[] fuente;
+        private final int desde, hasta;
+        private final int bajo, alto;
+        final int[] conteos = new int[3];
+        private int[] destino; // null mientras cuenta
+        private int lado, posicion;
+
+        Particion(int[] fuente, int desde, int hasta, int bajo, int alto) {
+            this.fuente = fuente;
+            this.desde = desde;
+            this.hasta = hasta;
+            this.bajo = bajo;
+            this.alto = alto;
+        }
+
+        void copiarEn(int[] destino, int lado, int posicion) {
+            this.destino = destino;
+            this.lado = lado;
+            this.posicion = posicion;
+        }
+
+        @Override
+        protected void compute() {
+            if (destino == null) {
+                int menores = 0, mayores = 0;
+                for (int i = desde; i < hasta; i++) {
+                    int valor = fuente[i];
+                    menores += valor < bajo ? 1 : 0;
+                    mayores += valor > alto ? 1 : 0;
+                }
+                conteos[MENORES] = menores;
+                conteos[FRANJA] = hasta - desde - menores - mayores;
+                conteos[MAYORES] = mayores;
+                return;
+            }
+
+            int k = posicion;
+            if (lado == MENORES) {
+                for (int i = desde; i < hasta; i++) {
+                    if (fuente[i] < bajo) destino[k++] = fuente[i];
+                }
+            } else if (lado == FRANJA) {
+                for (int i = desde; i < hasta; i++) {
+                    int valor = fuente[i];
+                    if (valor >= bajo && valor <= alto) destino[k++] = valor;
+                }
+            } else {
+                for (int i = desde; i < hasta; i++) {
+                    if (fuente[i] > alto) destino[k++] = fuente[i];
+                }
+            }
+        }
+    }
+
+    // Los k menores de [inicio, fin) en orden ascendente; las hojas comparten la cota global
+    static class TopK extends RecursiveTask<int[]> {
+        private final int[] arreglo;
+        private final int inicio, fin, k, tamañoHoja;
+        private final AtomicLong cota; // el menor tope entre los heaps llenos; ningún valor >= sirve
+
+        TopK(int[] arreglo, int inicio, int fin, int k, int tamañoHoja, AtomicLong cota) {
+            this.arreglo = arreglo;
+            this.inicio = inicio;
+            this.fin = fin;
+            this.k = k;
+            this.tamañoHoja = tamañoHoja;
+            this.cota = cota;
+        }
+
+        @Override
+        protected int[] compute() {
+            if (fin - inicio <= tamañoHoja) {
+                return hoja();
+            }
+            int medio = (inicio + fin) >>> 1;
+            TopK izquierda = new TopK(arreglo, inicio, medio, k, tamañoHoja, cota);
+            TopK derecha = new TopK(arreglo, medio, fin, k, tamañoHoja, cota);
+            derecha.fork();
+            int[] a = izquierda.compute();
+            int[] b = derecha.join();
+            return mezclarTruncado(a, b, k);
+        }
+
+        // Heap de máximos con los k menores vistos; con el heap lleno un valor >= al tope no entra
+        private int[] hoja() {
+            int[] heap = new int[Math.min(k, fin - inicio)];
+            int tamaño = 0;
+            for (int desde = inicio; desde < fin; desde += REFRESCO_COTA) {
+                int hasta = Math.min(fin, desde + REFRESCO_COTA);
+                long limite = cota.get();
+                if (tamaño == k) limite = Math.min(limite, heap[0]);
+                for (int i = desde; i < hasta; i++) {
+                    int valor = arreglo[i];
+                    if (valor >= limite) continue;
+                    if (tamaño < k) {
+                        subir(heap, tamaño++, valor);
+                        if (tamaño == k) limite = Math.min(limite, heap[0]);
+                    } else {
+                        bajar(heap, k, valor);
+                        limite = Math.min(limite, heap[0]);
+                    }
+                }
+                if (tamaño == k && heap[0] < cota.get()) {
+                    cota.accumulateAndGet(heap[0], Math::min);
+                }
+            }
+            int[] resultado = tamaño == heap.length ? heap : Arrays.copyOf(heap, tamaño);
+            Arrays.sort(resultado);
+            return resultado;
+        }
+
+        private static void subir(int[] heap, int i, int valor) {
+            while (i > 0) {
+                int padre = (i - 1) >>> 1;
+                if (heap[padre] >= valor) break;
+                heap[i] = heap[padre];
+                i = padre;
+            }
+            heap[i] = valor;
+        }
+
+        // Reemplaza el tope por valor y lo hunde hasta su lugar
+        private static void bajar(int[] heap, int tamaño, int valor) {
+            int i = 0;
+            int hijo;
+            while ((hijo = 2 * i + 1) < tamaño) {
+                if (hijo + 1 < tamaño && heap[hijo + 1] > heap[hijo]) hijo++;
+                if (heap[hijo] <= valor) break;
+                heap[i] = heap[hijo];
+                i = hijo;
+            }
+            heap[i] = valor;
+        }
+
+        private static int[] mezclarTruncado(int[] a, int[] b, int k) {
+            int[] resultado = new int[Math.min(k, a.length + b.length)];
+            int i = 0, j = 0;
+            for (int r = 0; r < resultado.length; r++) {
+                resultado[r] = (j >= b.length || (i < a.length && a[i] <= b[j])) ? a[i++] : b[j++];
+            }
+            return resultado;
+        }
+    }
+}
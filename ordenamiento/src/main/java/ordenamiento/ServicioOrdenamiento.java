@@ -0,0 +1,325 @@
+package ordenamiento;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+// Servicio de larga vida para ordenar muchos arreglos independientes sobre un único pool compartido.
+//
+// Cada envío es una tarea del pool: los arreglos de hasta umbral elementos se ordenan enteros en un
+// solo hilo, así muchos chicos corren lado a lado, y los más grandes se reparten con
+// MergeSortParalelo entre los hilos que estén libres. El buffer auxiliar sale de una reserva por hilo
+// del pool y vuelve ahí al terminar; como un hilo que espera un join puede ejecutar otro envío, cada
+// hilo guarda una pila de buffers y nunca presta el mismo a dos ordenamientos a la vez.
+// La cola está acotada: con capacidad envíos en curso, enviar() espera a que termine alguno.
+//
+// Generador de carga: java ServicioOrdenamiento [--arreglos N] [--clientes N] [--tamano-min N]
+//          [--tamano-max N] [--paralelismo N] [--capacidad N] [--umbral N] [--modo servicio|por-llamada|ambos]
+public class ServicioOrdenamiento implements AutoCloseable {
+
+    public static final int UMBRAL_POR_DEFECTO = 1 << 15;
+    private static final int BUFFERS_POR_HILO = 2;
+    private static final int TAMAÑO_MAXIMO_RETENIDO = 1 << 22; // buffers más grandes no se guardan
+
+    private final ForkJoinPool pool;
+    private final Semaphore cupos;
+    private final int umbral;
+    private final ThreadLocal<ArrayDeque<int[]>> buffers = ThreadLocal.withInitial(ArrayDeque::new);
+
+    private final LongAdder arreglosOrdenados = new LongAdder();
+    private final LongAdder elementosOrdenados = new LongAdder();
+    private final LongAdder buffersReutilizados = new LongAdder();
+    private final LongAdder buffersReservados = new LongAdder();
+
+    // capacidad: envíos aceptados que todavía no terminaron; umbral: tamaño de hoja y límite por
+    // debajo del cual un arreglo se ordena en un solo hilo
+    public ServicioOrdenamiento(int paralelismo, int capacidad, int umbral) {
+        if (capacidad < 1 || umbral < 1) {
+            throw new IllegalArgumentException("capacidad y umbral deben ser positivos");
+        }
+        this.pool = new ForkJoinPool(paralelismo);
+        this.cupos = new Semaphore(capacidad);
+        this.umbral = umbral;
+    }
+
+    // Ordena arreglo en su lugar; si la cola está llena espera a que se libere un cupo
+    public CompletableFuture<int[]> enviar(int[] arreglo) throws InterruptedException {
+        cupos.acquire();
+        return aceptar(arreglo);
+    }
+
+    // Como enviar(), pero con la cola llena falla de inmediato con RejectedExecutionException
+    public CompletableFuture<int[]> intentarEnviar(int[] arreglo) {
+        if (!cupos.tryAcquire()) {
+            return CompletableFuture.failedFuture(new RejectedExecutionException("Cola de ordenamiento llena"));
+        }
+        return aceptar(arreglo);
+    }
+
+    private CompletableFuture<int[]> aceptar(int[] arreglo) {
+        CompletableFuture<int[]> futuro = new CompletableFuture<>();
+        try {
+            pool.execute(new Envio(arreglo, futuro));
+        } catch (RejectedExecutionException e) {
+            cupos.release();
+            futuro.completeExceptionally(e);
+        }
+        return futuro;
+    }
+
+    public long arreglosOrdenados()   { return arreglosOrdenados.sum(); }
+    public long elementosOrdenados()  { return elementosOrdenados.sum(); }
+    public long buffersReutilizados() { return buffersReutilizados.sum(); }
+    public long buffersReservados()   { return buffersReservados.sum(); }
+
+    // Deja de aceptar envíos y espera a que terminen los que están en curso; si interrumpen la espera
+    // los envíos siguen en el pool y el hilo queda marcado como interrumpido
+    @Override
+    public void close() {
+        pool.shutdown();
+        try {
+            pool.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // El buffer más chico de la reserva de este hilo que alcance, o uno nuevo
+    private int[] tomarBuffer(int tamaño) {
+        ArrayDeque<int[]> propios = buffers.get();
+        int[] elegido = null;
+        for (int[] buffer : propios) {
+            if (buffer.length >= tamaño && (elegido == null || buffer.length < elegido.length)) {
+                elegido = buffer;
+            }
+        }
+        if (elegido != null) {
+            propios.removeFirstOccurrence(elegido);
+            buffersReutilizados.increment();
+            return elegido;
+        }
+        buffersReservados.increment();
+        return new int[tamaño];
+    }
+
+    // Con la reserva llena se descarta el más chico: los grandes son los que más cuesta reservar
+    private void devolverBuffer(int[] buffer) {
+        if (buffer.length > TAMAÑO_MAXIMO_RETENIDO) return;
+        ArrayDeque<int[]> propios = buffers.get();
+        propios.push(buffer);
+        if (propios.size() > BUFFERS_POR_HILO) {
+            int[] menor = buffer;
+            for (int[] candidato : propios) {
+                if (candidato.length < menor.length) menor = candidato;
+            }
+            propios.removeFirstOccurrence(menor);
+        }
+    }
+
+    // Un envío: ordena, completa el futuro y libera su cupo
+    private final class Envio extends RecursiveAction {
+        private final int[] arreglo;
+        private final CompletableFuture<int[]> futuro;
+
+        Envio(int[] arreglo, CompletableFuture<int[]> futuro) {
+            this.arreglo = arreglo;
+            this.futuro = futuro;
+        }
+
+        @Override
+        protected void compute() {
+            try {
+                int n = arreglo.length;
+                if (n <= umbral) {
+                    Arrays.sort(arreglo);
+                } else {
+                    int[] aux = tomarBuffer(n);
+                    try {
+                        System.arraycopy(arreglo, 0, aux, 0, n);
+                        MergeSortParaleloUI.MergeSortParalelo.conBuffer(arreglo, aux, 0, n, umbral,
+                                MergeSortParaleloUI.MergeSortParalelo.UMBRAL_MERGE_POR_DEFECTO).invoke();
+                    } finally {
+                        devolverBuffer(aux);
+                    }
+                }
+                arreglosOrdenados.increment();
+                elementosOrdenados.add(n);
+            } catch (Throwable e) {
+                cupos.release();
+                futuro.completeExceptionally(e);
+                return;
+            }
+            cupos.release();
+            futuro.complete(arreglo);
+        }
+    }
+
+    // Resultado de una corrida del generador de carga
+    static final class Carga {
+        final String nombre;
+        final long arreglos, elementos, nanos;
+        final BenchmarkOrdenamiento.Resultado latencias;
+
+        Carga(String nombre, long arreglos, long elementos, long nanos, long[] latencias) {
+            this.nombre = nombre;
+            this.arreglos = arreglos;
+            this.elementos = elementos;
+            this.nanos = nanos;
+            this.latencias = new BenchmarkOrdenamiento.Resultado(nombre, latencias);
+        }
+
+        @Override
+        public String toString() {
+            double segundos = nanos / 1e9;
+            return String.format(Locale.ROOT, "%-12s %,8d arreglos en %,7d ms → %,10.0f arreglos/s %,14.0f elementos/s"
+                                 + " | latencia p50 %,8.2f ms p95 %,8.2f ms p99 %,8.2f ms máx %,8.2f ms",
+                                 nombre, arreglos, nanos / 1_000_000, arreglos / segundos, elementos / segundos,
+                                 latencias.mediana() / 1e6, latencias.p95() / 1e6, latencias.percentil(99) / 1e6,
+                                 latencias.max() / 1e6);
+        }
+    }
+
+    // Un cliente por hilo que envía los arreglos i con i % clientes == su número; la latencia de cada
+    // arreglo va desde que el cliente lo envía (incluida la espera por un cupo) hasta que está ordenado
+    static Carga cargarServicio(ServicioOrdenamiento servicio, int[][] plantillas, int arreglos, int clientes)
+            throws InterruptedException {
+        long[] latencias = new long[arreglos];
+        LongAdder elementos = new LongAdder();
+        CountDownLatch terminados = new CountDownLatch(arreglos);
+        long inicio = System.nanoTime();
+        Thread[] hilos = new Thread[clientes];
+        for (int c = 0; c < clientes; c++) {
+            int cliente = c;
+            hilos[c] = new Thread(() -> {
+                int i = cliente;
+                try {
+                    for (; i < arreglos; i += clientes) {
+                        int[] arreglo = plantillas[i % plantillas.length].clone();
+                        int indice = i;
+                        long envio = System.nanoTime();
+                        servicio.enviar(arreglo).whenComplete((ordenado, error) -> {
+                            latencias[indice] = System.nanoTime() - envio;
+                            if (error == null) elementos.add(ordenado.length);
+                            terminados.countDown();
+                        });
+                    }
+                } catch (InterruptedException e) {
+                    // Lo que este cliente ya no va a enviar se descuenta para que la espera no se cuelgue
+                    for (; i < arreglos; i += clientes) terminados.countDown();
+                    Thread.currentThread().interrupt();
+                }
+            }, "cliente-" + c);
+            hilos[c].start();
+        }
+        terminados.await();
+        return new Carga("servicio", arreglos, elementos.sum(), System.nanoTime() - inicio, latencias);
+    }
+
+    // Lo que hacía cada llamador hasta ahora: un ForkJoinPool y un MergeSortParalelo por arreglo
+    static Carga cargarPorLlamada(int[][] plantillas, int arreglos, int clientes, int paralelismo, int umbral)
+            throws InterruptedException {
+        long[] latencias = new long[arreglos];
+        LongAdder elementos = new LongAdder();
+        long inicio = System.nanoTime();
+        Thread[] hilos = new Thread[clientes];
+        for (int c = 0; c < clientes; c++) {
+            int cliente = c;
+            hilos[c] = new Thread(() -> {
+                for (int i = cliente; i < arreglos; i += clientes) {
+                    int[] arreglo = plantillas[i % plantillas.length].clone();
+                    long envio = System.nanoTime();
+                    ForkJoinPool pool = new ForkJoinPool(paralelismo);
+                    // Mismo árbol que el servicio: solo cambia que el pool se crea en cada llamada
+                    pool.invoke(new MergeSortParaleloUI.MergeSortParalelo(arreglo, 0, arreglo.length, umbral,
+                            MergeSortParaleloUI.MergeSortParalelo.EstrategiaMerge.BUFFER_ALTERNADO,
+                            MergeSortParaleloUI.MergeSortParalelo.UMBRAL_MERGE_POR_DEFECTO));
+                    pool.shutdown();
+                    latencias[i] = System.nanoTime() - envio;
+                    elementos.add(arreglo.length);
+                }
+            }, "cliente-" + c);
+            hilos[c].start();
+        }
+        for (Thread hilo : hilos) hilo.join();
+        return new Carga("por-llamada", arreglos, elementos.sum(), System.nanoTime() - inicio, latencias);
+    }
+
+    // Tamaños log-uniformes en [minimo, maximo]: tantos arreglos de miles como de cientos de miles
+    static int[][] generarPlantillas(int cantidad, int minimo, int maximo, long semilla) {
+        SplittableRandom aleatorio = new SplittableRandom(semilla);
+        double logMinimo = Math.log(minimo), logMaximo = Math.log(maximo);
+        int[][] plantillas = new int[cantidad][];
+        for (int i = 0; i < cantidad; i++) {
+            int tamaño = (int) Math.round(Math.exp(logMinimo + aleatorio.nextDouble() * (logMaximo - logMinimo)));
+            plantillas[i] = GeneradorDatos.generar(tamaño, GeneradorDatos.Distribucion.UNIFORME, aleatorio.nextLong());
+        }
+        return plantillas;
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        int arreglos = 20_000, clientes = 4, tamañoMinimo = 2_000, tamañoMaximo = 300_000;
+        int paralelismo = Runtime.getRuntime().availableProcessors();
+        int capacidad = 4 * paralelismo;
+        int umbral = UMBRAL_POR_DEFECTO;
+        String modo = "ambos";
+
+        try {
+            for (int i = 0; i < args.length; i++) {
+                String clave = args[i];
+                if (i + 1 >= args.length) throw new IllegalArgumentException("Falta el valor de " + clave);
+                String valor = args[++i].replace("_", "");
+                switch (clave) {
+                    case "--arreglos":    arreglos = Integer.parseInt(valor); break;
+                    case "--clientes":    clientes = Integer.parseInt(valor); break;
+                    case "--tamano-min":  tamañoMinimo = Integer.parseInt(valor); break;
+                    case "--tamano-max":  tamañoMaximo = Integer.parseInt(valor); break;
+                    case "--paralelismo": paralelismo = Integer.parseInt(valor); break;
+                    case "--capacidad":   capacidad = Integer.parseInt(valor); break;
+                    case "--umbral":      umbral = Integer.parseInt(valor); break;
+                    case "--modo":        modo = valor.toLowerCase(Locale.ROOT); break;
+                    default:
+                        throw new IllegalArgumentException("Argumento desconocido: " + clave);
+                }
+            }
+            if (arreglos < 1 || clientes < 1 || tamañoMinimo < 1 || tamañoMaximo < tamañoMinimo) {
+                throw new IllegalArgumentException("Se necesitan arreglos y clientes >= 1 y 1 <= tamano-min <= tamano-max");
+            }
+            if (!modo.equals("servicio") && !modo.equals("por-llamada") && !modo.equals("ambos")) {
+                throw new IllegalArgumentException("Modo desconocido: " + modo);
+            }
+        } catch (IllegalArgumentException e) {
+            System.err.println("❌ " + e.getMessage());
+            System.err.println("Uso: java ServicioOrdenamiento [--arreglos N] [--clientes N] [--tamano-min N] "
+                    + "[--tamano-max N] [--paralelismo N] [--capacidad N] [--umbral N] "
+                    + "[--modo servicio|por-llamada|ambos]");
+            System.exit(2);
+            return;
+        }
+
+        int[][] plantillas = generarPlantillas(256, tamañoMinimo, tamañoMaximo, 42);
+        // Calentamiento del JIT con una décima parte de la carga
+        int calentamiento = Math.max(1, arreglos / 10);
+        if (!modo.equals("por-llamada")) {
+            try (ServicioOrdenamiento servicio = new ServicioOrdenamiento(paralelismo, capacidad, umbral)) {
+                cargarServicio(servicio, plantillas, calentamiento, clientes);
+                Carga carga = cargarServicio(servicio, plantillas, arreglos, clientes);
+                System.out.println(carga);
+                System.out.printf(Locale.ROOT, "             buffers auxiliares: %,d reutilizados, %,d reservados%n",
+                                  servicio.buffersReutilizados(), servicio.buffersReservados());
+            }
+        }
+        if (!modo.equals("servicio")) {
+            cargarPorLlamada(plantillas, calentamiento, clientes, paralelismo, umbral);
+            System.out.println(cargarPorLlamada(plantillas, arreglos, clientes, paralelismo, umbral));
+        }
+    }
+}
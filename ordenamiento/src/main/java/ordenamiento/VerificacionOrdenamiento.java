@@ -0,0 +1,138 @@
+package ordenamiento;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+// Verificación de un ordenamiento sin guardar una copia de la entrada ni ordenar otra referencia:
+// basta con que la salida esté ordenada y contenga exactamente el mismo multiconjunto de valores.
+//
+// El multiconjunto se resume en una huella independiente del orden: la suma (módulo 2^64) de dos
+// mezcladores de 64 bits distintos aplicados a cada valor, más la cantidad de elementos.
+public final class VerificacionOrdenamiento {
+
+    private static final int TAMAÑO_BLOQUE = 1 << 16;
+
+    private VerificacionOrdenamiento() {
+    }
+
+    public static final class Huella {
+        final long elementos;
+        final long suma1;
+        final long suma2;
+
+        Huella(long elementos, long suma1, long suma2) {
+            this.elementos = elementos;
+            this.suma1 = suma1;
+            this.suma2 = suma2;
+        }
+
+        Huella combinar(Huella otra) {
+            return new Huella(elementos + otra.elementos, suma1 + otra.suma1, suma2 + otra.suma2);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Huella)) return false;
+            Huella otra = (Huella) o;
+            return elementos == otra.elementos && suma1 == otra.suma1 && suma2 == otra.suma2;
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(suma1 ^ suma2 ^ elementos);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d:%016x%016x", elementos, suma1, suma2);
+        }
+    }
+
+    public static Huella huella(int[] arreglo, ForkJoinPool pool) {
+        return huella(arreglo, 0, arreglo.length, pool);
+    }
+
+    public static Huella huella(int[] arreglo, int inicio, int fin, ForkJoinPool pool) {
+        return pool.invoke(new TareaHuella(arreglo, inicio, fin));
+    }
+
+    public static boolean estaOrdenado(int[] arreglo, ForkJoinPool pool) {
+        return estaOrdenado(arreglo, 0, arreglo.length, pool);
+    }
+
+    public static boolean estaOrdenado(int[] arreglo, int inicio, int fin, ForkJoinPool pool) {
+        return pool.invoke(new TareaOrden(arreglo, inicio, fin, inicio));
+    }
+
+    // Finalizador de SplitMix64
+    private static long mezclar1(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    // Finalizador de MurmurHash3 (fmix64), con otra constante de entrada para independizarlo del primero
+    private static long mezclar2(long z) {
+        z += 0x9e3779b97f4a7c15L;
+        z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+        z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return z ^ (z >>> 33);
+    }
+
+    static class TareaHuella extends RecursiveTask<Huella> {
+        private final int[] arreglo;
+        private final int inicio, fin;
+
+        TareaHuella(int[] arreglo, int inicio, int fin) {
+            this.arreglo = arreglo;
+            this.inicio = inicio;
+            this.fin = fin;
+        }
+
+        @Override
+        protected Huella compute() {
+            if (fin - inicio <= TAMAÑO_BLOQUE) {
+                long suma1 = 0, suma2 = 0;
+                for (int i = inicio; i < fin; i++) {
+                    suma1 += mezclar1(arreglo[i]);
+                    suma2 += mezclar2(arreglo[i]);
+                }
+                return new Huella(fin - inicio, suma1, suma2);
+            }
+            int medio = (inicio + fin) >>> 1;
+            TareaHuella izquierda = new TareaHuella(arreglo, inicio, medio);
+            izquierda.fork();
+            Huella derecha = new TareaHuella(arreglo, medio, fin).compute();
+            return izquierda.join().combinar(derecha);
+        }
+    }
+
+    // Cada bloque revisa también la frontera con el bloque anterior
+    static class TareaOrden extends RecursiveTask<Boolean> {
+        private final int[] arreglo;
+        private final int inicio, fin;
+        private final int primero; // inicio del rango completo: no se compara con lo que queda antes
+
+        TareaOrden(int[] arreglo, int inicio, int fin, int primero) {
+            this.arreglo = arreglo;
+            this.inicio = inicio;
+            this.fin = fin;
+            this.primero = primero;
+        }
+
+        @Override
+        protected Boolean compute() {
+            if (fin - inicio <= TAMAÑO_BLOQUE) {
+                for (int i = Math.max(primero + 1, inicio); i < fin; i++) {
+                    if (arreglo[i - 1] > arreglo[i]) return false;
+                }
+                return true;
+            }
+            int medio = (inicio + fin) >>> 1;
+            TareaOrden izquierda = new TareaOrden(arreglo, inicio, medio, primero);
+            izquierda.fork();
+            boolean derecha = new TareaOrden(arreglo, medio, fin, primero).compute();
+            return izquierda.join() && derecha;
+        }
+    }
+}